@@ -0,0 +1,137 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load driver with no dependencies; run it straight from source:
+ *
+ *   java bench/HttpLoad.java --url http://localhost:8080/api/interviews \
+ *        --token $JWT --concurrency 200 --duration 30
+ *
+ * Each worker sends GETs back to back. Latencies go into log-spaced buckets
+ * (~4% wide), so memory stays fixed however long it runs.
+ */
+public class HttpLoad {
+
+    // bucket i covers [BASE^i, BASE^(i+1)) microseconds, up to ~10 minutes
+    private static final double BASE = 1.04;
+    private static final int BUCKETS = (int) Math.ceil(Math.log(600_000_000.0) / Math.log(BASE)) + 1;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parse(args);
+        URI url = URI.create(opts.getOrDefault("url", "http://localhost:8080/health"));
+        String token = opts.get("token");
+        int concurrency = Integer.parseInt(opts.getOrDefault("concurrency", "50"));
+        int durationSec = Integer.parseInt(opts.getOrDefault("duration", "30"));
+        int warmupSec = Integer.parseInt(opts.getOrDefault("warmup", "5"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest.Builder rb = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(30)).GET();
+        if (token != null) {
+            rb.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = rb.build();
+
+        AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        LongAdder errors = new LongAdder();
+
+        long warmupEnd = System.nanoTime() + warmupSec * 1_000_000_000L;
+        long end = warmupEnd + durationSec * 1_000_000_000L;
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            Thread t = new Thread(() -> {
+                try {
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= end) {
+                            break;
+                        }
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> res = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            ok = res.statusCode() < 400;
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        if (start < warmupEnd) {
+                            continue;
+                        }
+                        if (ok) {
+                            histogram.incrementAndGet(bucket((System.nanoTime() - start) / 1_000));
+                        } else {
+                            errors.increment();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + i);
+            t.setDaemon(true);
+            t.start();
+        }
+        done.await();
+
+        report(url, concurrency, durationSec, histogram, errors.sum());
+    }
+
+    private static int bucket(long micros) {
+        if (micros <= 1) return 0;
+        return Math.min(BUCKETS - 1, (int) (Math.log(micros) / Math.log(BASE)));
+    }
+
+    private static double upperMillis(int bucket) {
+        return Math.pow(BASE, bucket + 1) / 1_000.0;
+    }
+
+    private static void report(URI url, int concurrency, int durationSec, AtomicLongArray h, long errors) {
+        long total = 0;
+        int max = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += h.get(i);
+            if (h.get(i) > 0) max = i;
+        }
+
+        System.out.printf("url=%s concurrency=%d duration=%ds%n", url, concurrency, durationSec);
+        System.out.printf("requests=%d errors=%d throughput=%.1f req/s%n",
+                total, errors, total / (double) durationSec);
+        if (total == 0) {
+            return;
+        }
+        for (double q : new double[]{0.50, 0.90, 0.99, 0.999}) {
+            System.out.printf("p%-5s %8.2f ms%n", trim(q * 100), upperMillis(percentile(h, total, q)));
+        }
+        System.out.printf("max    %8.2f ms%n", upperMillis(max));
+    }
+
+    private static int percentile(AtomicLongArray h, long total, double q) {
+        long target = (long) Math.ceil(total * q);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += h.get(i);
+            if (seen >= target) return i;
+        }
+        return BUCKETS - 1;
+    }
+
+    private static String trim(double d) {
+        return d == Math.floor(d) ? String.valueOf((long) d) : String.valueOf(d);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            opts.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return opts;
+    }
+}
@@ -0,0 +1,424 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Seeds users and interviews through the public API, then drives a weighted mix of
+ * login / list / get / create / update / delete / import against them and writes a
+ * per-endpoint latency report. No dependencies; run it straight from source:
+ *
+ *   java bench/MixedLoad.java --base http://localhost:8080 --users 50 \
+ *        --interviews-per-user 2000 --concurrency 64 --duration 60 \
+ *        --report target/load-report.txt
+ *
+ * --mix takes op=weight pairs, e.g. list=50,get=20,create=10,update=8,delete=5,login=5,import=2.
+ * Workers use fixed seeds (--seed), so two runs issue the same sequence of operations.
+ * Latency buckets are the same log-spaced ones HttpLoad uses.
+ */
+public class MixedLoad {
+
+    enum Op { LOGIN, LIST, GET, CREATE, UPDATE, DELETE, IMPORT }
+
+    private static final double BASE = 1.04;
+    private static final int BUCKETS = (int) Math.ceil(Math.log(600_000_000.0) / Math.log(BASE)) + 1;
+
+    private static final String PASSWORD = "load-test-password";
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries",
+            "Wayne Enterprises", "Cyberdyne", "Soylent", "Tyrell"};
+    private static final String[] ROLES = {"Backend Engineer", "SRE", "Data Engineer", "Frontend Engineer", "Engineering Manager"};
+    private static final String[] STATUSES = {"Scheduled", "Applied", "Offer", "Rejected"};
+    private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+    private static final Pattern TOKEN = Pattern.compile("\"token\":\"([^\"]+)\"");
+
+    private record Account(String email, String token, List<String> ids) {
+    }
+
+    private static final class Stats {
+        final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+        final LongAdder errors = new LongAdder();
+    }
+
+    private static URI base;
+    private static HttpClient client;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parse(args);
+        base = URI.create(opts.getOrDefault("base", "http://localhost:8080"));
+        int users = Integer.parseInt(opts.getOrDefault("users", "20"));
+        int perUser = Integer.parseInt(opts.getOrDefault("interviews-per-user", "1000"));
+        int concurrency = Integer.parseInt(opts.getOrDefault("concurrency", "32"));
+        int durationSec = Integer.parseInt(opts.getOrDefault("duration", "60"));
+        int warmupSec = Integer.parseInt(opts.getOrDefault("warmup", "10"));
+        long seed = Long.parseLong(opts.getOrDefault("seed", "42"));
+        Path reportPath = Path.of(opts.getOrDefault("report", "target/load-report.txt"));
+        Map<Op, Integer> mix = parseMix(opts.getOrDefault("mix",
+                "list=50,get=20,create=10,update=8,delete=5,login=5,import=2"));
+
+        client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        long seedStart = System.nanoTime();
+        List<Account> accounts = seed(run, users, perUser, seed);
+        System.out.printf("seeded %d users x %d interviews in %.1fs%n",
+                users, perUser, (System.nanoTime() - seedStart) / 1e9);
+
+        Map<Op, Stats> stats = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) {
+            stats.put(op, new Stats());
+        }
+
+        long warmupEnd = System.nanoTime() + warmupSec * 1_000_000_000L;
+        long end = warmupEnd + durationSec * 1_000_000_000L;
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            Random rnd = new Random(seed + 1 + i);
+            Thread t = new Thread(() -> {
+                try {
+                    while (true) {
+                        long start = System.nanoTime();
+                        if (start >= end) {
+                            break;
+                        }
+                        Op op = pick(mix, rnd);
+                        Account account = accounts.get(rnd.nextInt(accounts.size()));
+                        boolean ok;
+                        try {
+                            ok = execute(op, account, rnd);
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        if (start < warmupEnd) {
+                            continue;
+                        }
+                        Stats s = stats.get(op);
+                        if (ok) {
+                            s.histogram.incrementAndGet(bucket((System.nanoTime() - start) / 1_000));
+                        } else {
+                            s.errors.increment();
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + i);
+            t.setDaemon(true);
+            t.start();
+        }
+        done.await();
+
+        String report = report(users, perUser, concurrency, durationSec, mix, stats);
+        System.out.print(report);
+        if (reportPath.getParent() != null) {
+            Files.createDirectories(reportPath.getParent());
+        }
+        Files.writeString(reportPath, report + histograms(stats));
+        System.out.println("full report with histograms: " + reportPath);
+    }
+
+    // ---- seeding ----
+
+    private static List<Account> seed(String run, int users, int perUser, long seed) throws Exception {
+        // registration is bcrypt-bound and the server sheds load past its hash queue,
+        // so seed a few users at a time
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<Account>> futures = new ArrayList<>();
+        for (int u = 0; u < users; u++) {
+            int n = u;
+            futures.add(pool.submit(() -> seedUser(run, n, perUser, new Random(seed * 31 + n))));
+        }
+        List<Account> accounts = new ArrayList<>();
+        for (Future<Account> f : futures) {
+            accounts.add(f.get());
+        }
+        pool.shutdown();
+        return accounts;
+    }
+
+    private static Account seedUser(String run, int n, int perUser, Random rnd) throws IOException, InterruptedException {
+        String email = "load-" + run + "-" + n + "@example.com";
+        HttpResponse<String> res = send(post("/api/auth/register", null, "application/json",
+                "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}"));
+        if (res.statusCode() >= 400) {
+            throw new IllegalStateException("register failed: " + res.statusCode() + " " + res.body());
+        }
+        String token = match(TOKEN, res.body());
+
+        res = send(post("/api/interviews/import", token, "text/csv", csv(perUser, rnd)));
+        if (res.statusCode() >= 400) {
+            throw new IllegalStateException("seed import failed: " + res.statusCode() + " " + res.body());
+        }
+
+        // keep a working set of ids for get/update/delete
+        res = send(get("/api/interviews?limit=200", token));
+        List<String> ids = new ArrayList<>();
+        Matcher m = ID.matcher(res.body());
+        while (m.find()) {
+            ids.add(m.group(1));
+        }
+        return new Account(email, token, ids);
+    }
+
+    private static String csv(int rows, Random rnd) {
+        StringBuilder sb = new StringBuilder(rows * 96);
+        sb.append("company,role,interviewDate,status,notes\n");
+        Instant now = Instant.now();
+        for (int i = 0; i < rows; i++) {
+            sb.append(COMPANIES[rnd.nextInt(COMPANIES.length)]).append(',')
+                    .append(ROLES[rnd.nextInt(ROLES.length)]).append(',')
+                    .append(now.plusSeconds(rnd.nextInt(180 * 86_400) - 90 * 86_400L)).append(',')
+                    .append(STATUSES[rnd.nextInt(STATUSES.length)]).append(',')
+                    .append(rnd.nextInt(3) == 0 ? "\"Prep: system design, behavioural, \"\"why us\"\"\"" : "")
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    // ---- workload ----
+
+    private static boolean execute(Op op, Account a, Random rnd) throws IOException, InterruptedException {
+        return switch (op) {
+            case LOGIN -> ok(send(post("/api/auth/login", null, "application/json",
+                    "{\"email\":\"" + a.email() + "\",\"password\":\"" + PASSWORD + "\"}")));
+            case LIST -> ok(send(get("/api/interviews?limit=50", a.token())));
+            case GET -> {
+                String id = anyId(a, rnd);
+                yield id == null || ok(send(get("/api/interviews/" + id, a.token())));
+            }
+            case CREATE -> {
+                HttpResponse<String> res = send(post("/api/interviews", a.token(), "application/json", body(rnd)));
+                if (ok(res)) {
+                    synchronized (a.ids()) {
+                        a.ids().add(match(ID, res.body()));
+                    }
+                }
+                yield ok(res);
+            }
+            case UPDATE -> {
+                String id = anyId(a, rnd);
+                yield id == null || ok(send(request("/api/interviews/" + id, a.token())
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(body(rnd)))
+                        .build()));
+            }
+            case DELETE -> {
+                String id;
+                synchronized (a.ids()) {
+                    // leave some rows behind for get/update to hit
+                    id = a.ids().size() > 20 ? a.ids().remove(rnd.nextInt(a.ids().size())) : null;
+                }
+                yield id == null || ok(send(request("/api/interviews/" + id, a.token()).DELETE().build()));
+            }
+            case IMPORT -> ok(send(post("/api/interviews/import", a.token(), "text/csv", csv(100, rnd))));
+        };
+    }
+
+    private static String anyId(Account a, Random rnd) {
+        synchronized (a.ids()) {
+            return a.ids().isEmpty() ? null : a.ids().get(rnd.nextInt(a.ids().size()));
+        }
+    }
+
+    private static String body(Random rnd) {
+        return "{\"company\":\"" + COMPANIES[rnd.nextInt(COMPANIES.length)]
+                + "\",\"role\":\"" + ROLES[rnd.nextInt(ROLES.length)]
+                + "\",\"interviewDate\":\"" + Instant.now().plusSeconds(rnd.nextInt(30 * 86_400))
+                + "\",\"status\":\"" + STATUSES[rnd.nextInt(STATUSES.length)]
+                + "\",\"notes\":\"load test\"}";
+    }
+
+    private static Op pick(Map<Op, Integer> mix, Random rnd) {
+        int total = 0;
+        for (int w : mix.values()) {
+            total += w;
+        }
+        int r = rnd.nextInt(total);
+        for (Map.Entry<Op, Integer> e : mix.entrySet()) {
+            r -= e.getValue();
+            if (r < 0) {
+                return e.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    // ---- http ----
+
+    private static HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder rb = HttpRequest.newBuilder(base.resolve(path)).timeout(Duration.ofSeconds(60));
+        if (token != null) {
+            rb.header("Authorization", "Bearer " + token);
+        }
+        return rb;
+    }
+
+    private static HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private static HttpRequest post(String path, String token, String contentType, String body) {
+        return request(path, token)
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static boolean ok(HttpResponse<?> res) {
+        return res.statusCode() < 400;
+    }
+
+    private static String match(Pattern p, String s) {
+        Matcher m = p.matcher(s);
+        if (!m.find()) {
+            throw new IllegalStateException("unexpected response: " + s);
+        }
+        return m.group(1);
+    }
+
+    // ---- reporting ----
+
+    private static int bucket(long micros) {
+        if (micros <= 1) return 0;
+        return Math.min(BUCKETS - 1, (int) (Math.log(micros) / Math.log(BASE)));
+    }
+
+    private static double upperMillis(int bucket) {
+        return Math.pow(BASE, bucket + 1) / 1_000.0;
+    }
+
+    private static String report(int users, int perUser, int concurrency, int durationSec,
+                                 Map<Op, Integer> mix, Map<Op, Stats> stats) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("base=%s users=%d interviews/user=%d concurrency=%d duration=%ds mix=%s%n",
+                base, users, perUser, concurrency, durationSec, mix));
+        sb.append(String.format("%-8s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        AtomicLongArray all = new AtomicLongArray(BUCKETS);
+        long allErrors = 0;
+        for (Map.Entry<Op, Stats> e : stats.entrySet()) {
+            AtomicLongArray h = e.getValue().histogram;
+            for (int i = 0; i < BUCKETS; i++) {
+                all.addAndGet(i, h.get(i));
+            }
+            allErrors += e.getValue().errors.sum();
+            row(sb, e.getKey().name().toLowerCase(), h, e.getValue().errors.sum(), durationSec);
+        }
+        row(sb, "all", all, allErrors, durationSec);
+        return sb.toString();
+    }
+
+    private static void row(StringBuilder sb, String name, AtomicLongArray h, long errors, int durationSec) {
+        long total = total(h);
+        if (total == 0) {
+            sb.append(String.format("%-8s %9d %7d %9s%n", name, 0, errors, "-"));
+            return;
+        }
+        sb.append(String.format("%-8s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, total, errors, total / (double) durationSec,
+                upperMillis(percentile(h, total, 0.50)),
+                upperMillis(percentile(h, total, 0.90)),
+                upperMillis(percentile(h, total, 0.99)),
+                upperMillis(percentile(h, total, 0.999)),
+                upperMillis(max(h))));
+    }
+
+    // non-empty buckets per op: upper bound, count, cumulative share
+    private static String histograms(Map<Op, Stats> stats) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<Op, Stats> e : stats.entrySet()) {
+            AtomicLongArray h = e.getValue().histogram;
+            long total = total(h);
+            if (total == 0) {
+                continue;
+            }
+            sb.append(String.format("%n# %s%n%12s %10s %8s%n", e.getKey().name().toLowerCase(), "<= ms", "count", "cum %"));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                long c = h.get(i);
+                if (c == 0) {
+                    continue;
+                }
+                seen += c;
+                sb.append(String.format("%12.3f %10d %8.3f%n", upperMillis(i), c, 100.0 * seen / total));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static long total(AtomicLongArray h) {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += h.get(i);
+        }
+        return total;
+    }
+
+    private static int max(AtomicLongArray h) {
+        int max = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (h.get(i) > 0) max = i;
+        }
+        return max;
+    }
+
+    private static int percentile(AtomicLongArray h, long total, double q) {
+        long target = (long) Math.ceil(total * q);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += h.get(i);
+            if (seen >= target) return i;
+        }
+        return BUCKETS - 1;
+    }
+
+    private static Map<Op, Integer> parseMix(String spec) {
+        Map<Op, Integer> mix = new EnumMap<>(Op.class);
+        for (String part : spec.split(",")) {
+            String[] kv = part.split("=");
+            int w = Integer.parseInt(kv[1].trim());
+            if (w > 0) {
+                mix.put(Op.valueOf(kv[0].trim().toUpperCase()), w);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one positive weight");
+        }
+        return mix;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            opts.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+        return opts;
+    }
+}
@@ -0,0 +1,28 @@
+#!/usr/bin/env sh
+# Runs the whole test suite, including the Postgres-backed API tests (PostgresApiTests
+# subclasses) and ReminderOutboxWorkerTests, against a throwaway local Postgres.
+#
+#   bench/api-test.sh [extra mvn args, e.g. -Dtest=InterviewListTests]
+set -eu
+
+cd "$(dirname "$0")/.."
+
+WORK=target/api-test
+
+mkdir -p "$WORK"
+. bench/local-pg.sh
+trap stop_local_pg EXIT INT TERM
+
+start_local_pg
+# the outbox tests get their own database: the API tests' app context keeps running its
+# scheduled outbox worker, which would otherwise claim their rows
+"${PG_BIN:+$PG_BIN/}createdb" -h localhost -p "$PG_PORT" -U postgres reminder_outbox_test
+
+env $(app_env) \
+  TEST_DATABASE_URL="$DATABASE_URL" \
+  TEST_DATABASE_USERNAME=postgres \
+  TEST_DATABASE_PASSWORD=postgres \
+  REMINDER_TEST_DATABASE_URL="jdbc:postgresql://localhost:$PG_PORT/reminder_outbox_test" \
+  REMINDER_TEST_DATABASE_USERNAME=postgres \
+  REMINDER_TEST_DATABASE_PASSWORD=postgres \
+  ./mvnw -B -q "$@" test
@@ -0,0 +1,50 @@
+#!/usr/bin/env sh
+# Runs the same GET /api/interviews load against platform-thread and virtual-thread mode
+# and prints throughput and latency percentiles for each.
+#
+# Prereqs: Postgres reachable via SPRING_DATASOURCE_* and a Java 21 build:
+#   ./mvnw -Pjava21 -DskipTests package
+#   bench/compare-thread-modes.sh
+set -eu
+
+cd "$(dirname "$0")/.."
+
+JAR=${JAR:-$(ls target/Interview-Tracker-*.jar | head -n1)}
+PORT=${PORT:-18080}
+CONCURRENCY=${CONCURRENCY:-200}
+DURATION=${DURATION:-30}
+BASE="http://localhost:$PORT"
+
+run_mode() {
+  mode=$1
+  profile=""
+  [ "$mode" = virtual ] && profile="--spring.profiles.active=virtual-threads"
+
+  # one client hammering the list endpoint; the rate limiter would turn that into 429s
+  java -jar "$JAR" --server.port="$PORT" --app.rate-limit.enabled=false $profile >"target/bench-$mode.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  i=0
+  until curl -fs "$BASE/health" >/dev/null; do
+    i=$((i + 1))
+    [ $i -gt 120 ] && { echo "app did not start, see target/bench-$mode.log"; exit 1; }
+    sleep 1
+  done
+
+  email="bench-$mode-$(date +%s)@example.com"
+  token=$(curl -fs -H 'Content-Type: application/json' \
+    -d "{\"email\":\"$email\",\"password\":\"bench-password\"}" \
+    "$BASE/api/auth/register" | sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+
+  echo "== $mode threads"
+  java bench/HttpLoad.java --url "$BASE/api/interviews" --token "$token" \
+    --concurrency "$CONCURRENCY" --duration "$DURATION"
+
+  kill $pid
+  wait $pid 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode platform
+run_mode virtual
@@ -0,0 +1,56 @@
+-- EXPLAIN (ANALYZE, BUFFERS) for the hot queries, to compare plans before/after a
+-- schema change. Run against a seeded database (e.g. after bench/load-test.sh):
+--
+--   psql -h localhost -p 55432 -U postgres interview_tracker \
+--        -v user_id="'<uuid>'" -f bench/explain-hot-queries.sql
+--
+-- Without a user_id, the user with the most interviews is used.
+
+\if :{?user_id}
+\else
+select user_id as user_id from interviews group by user_id order by count(*) desc limit 1 \gset
+\set user_id '\'' :user_id '\''
+\endif
+
+\echo '== list page (idx_interviews_user_date_id)'
+explain (analyze, buffers)
+select * from interviews
+where user_id = :user_id
+order by interview_date desc, id desc
+limit 51;
+
+\echo '== list page after a cursor'
+explain (analyze, buffers)
+select * from interviews
+where user_id = :user_id
+  and (interview_date < now() or (interview_date = now() and id < 'ffffffff-ffff-ffff-ffff-ffffffffffff'))
+order by interview_date desc, id desc
+limit 51;
+
+\echo '== list page filtered by company (idx_interviews_user_company_date_id)'
+explain (analyze, buffers)
+select * from interviews
+where user_id = :user_id and lower(company) = 'acme'
+order by interview_date desc, id desc
+limit 51;
+
+\echo '== reminder reconciliation (idx_interviews_unsent_reminder_due)'
+explain (analyze, buffers)
+select id, reminder_due_at from interviews
+where reminder_sent_at is null
+  and reminder_due_at <= now() + interval '2 hours'
+  and interview_date > now();
+
+\echo '== /changes (idx_interviews_user_seq)'
+explain (analyze, buffers)
+select * from interviews
+where user_id = :user_id and change_seq > 0
+order by change_seq, id
+limit 501;
+
+\echo '== search (idx_interviews_user_search)'
+explain (analyze, buffers)
+select i.* from interviews i, to_tsquery('simple', 'acme:*') q
+where i.user_id = :user_id and i.search_vector @@ q
+order by ts_rank(i.search_vector, q) desc, i.interview_date desc
+limit 20;
@@ -0,0 +1,54 @@
+#!/usr/bin/env sh
+# Pre-release load test: throwaway local Postgres + the packaged app + bench/MixedLoad.java.
+# Everything stays on localhost, so it runs on a plain Linux box with no network.
+#
+# Prereqs: Postgres server binaries (initdb, pg_ctl; set PG_BIN if they're not on PATH)
+# and a packaged jar:
+#   ./mvnw -DskipTests package
+#   bench/load-test.sh
+#
+# Knobs (env): USERS, PER_USER, CONCURRENCY, DURATION, WARMUP, MIX, SEED, JAVA_OPTS.
+# Set DATABASE_URL (jdbc:postgresql://...) to use an existing database instead.
+# Report: target/load-report.txt (summary table + per-endpoint latency histograms).
+set -eu
+
+cd "$(dirname "$0")/.."
+
+JAR=${JAR:-$(ls target/Interview-Tracker-*.jar | head -n1)}
+PORT=${PORT:-18080}
+USERS=${USERS:-50}
+PER_USER=${PER_USER:-2000}
+CONCURRENCY=${CONCURRENCY:-64}
+DURATION=${DURATION:-60}
+WARMUP=${WARMUP:-10}
+MIX=${MIX:-list=50,get=20,create=10,update=8,delete=5,login=5,import=2}
+SEED=${SEED:-42}
+BASE="http://localhost:$PORT"
+WORK=target/loadtest
+
+mkdir -p "$WORK"
+. bench/local-pg.sh
+pids=""
+cleanup() {
+  for p in $pids; do kill "$p" 2>/dev/null || true; done
+  stop_local_pg
+}
+trap cleanup EXIT INT TERM
+
+[ -n "${DATABASE_URL:-}" ] || start_local_pg
+
+# reminders aren't part of the workload
+env $(app_env) \
+  java ${JAVA_OPTS:-} -jar "$JAR" --server.port="$PORT" >"$WORK/app.log" 2>&1 &
+pids="$!"
+
+i=0
+until curl -fs "$BASE/health" >/dev/null; do
+  i=$((i + 1))
+  [ $i -gt 120 ] && { echo "app did not start, see $WORK/app.log"; exit 1; }
+  sleep 1
+done
+
+java bench/MixedLoad.java --base "$BASE" --users "$USERS" --interviews-per-user "$PER_USER" \
+  --concurrency "$CONCURRENCY" --duration "$DURATION" --warmup "$WARMUP" --mix "$MIX" --seed "$SEED" \
+  --report target/load-report.txt
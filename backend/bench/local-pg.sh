@@ -0,0 +1,41 @@
+# Sourced by the bench scripts: a throwaway Postgres cluster under $WORK/pg on $PG_PORT.
+# Needs initdb/pg_ctl/createdb (and pg_basebackup for the replica) on PATH or in $PG_BIN.
+
+PG_PORT=${PG_PORT:-55432}
+PG_REPLICA_PORT=${PG_REPLICA_PORT:-55433}
+
+start_local_pg() {
+  # fresh cluster every run so data volumes and plans are comparable
+  rm -rf "$WORK/pg"
+  "${PG_BIN:+$PG_BIN/}initdb" -D "$WORK/pg" -U postgres --auth=trust -E UTF8 >"$WORK/initdb.log"
+  "${PG_BIN:+$PG_BIN/}pg_ctl" -D "$WORK/pg" -l "$WORK/postgres.log" -w \
+    -o "-p $PG_PORT -k $(pwd)/$WORK -c listen_addresses=localhost -c max_connections=200" start >/dev/null
+  "${PG_BIN:+$PG_BIN/}createdb" -h localhost -p "$PG_PORT" -U postgres interview_tracker
+  DATABASE_URL="jdbc:postgresql://localhost:$PG_PORT/interview_tracker"
+}
+
+# streaming replica of the cluster above on $PG_REPLICA_PORT; sets REPLICA_URL
+start_local_replica() {
+  rm -rf "$WORK/pg-replica"
+  "${PG_BIN:+$PG_BIN/}pg_basebackup" -h localhost -p "$PG_PORT" -U postgres -D "$WORK/pg-replica" -R -X stream
+  "${PG_BIN:+$PG_BIN/}pg_ctl" -D "$WORK/pg-replica" -l "$WORK/postgres-replica.log" -w \
+    -o "-p $PG_REPLICA_PORT -k $(pwd)/$WORK -c listen_addresses=localhost" start >/dev/null
+  REPLICA_URL="jdbc:postgresql://localhost:$PG_REPLICA_PORT/interview_tracker"
+}
+
+stop_local_pg() {
+  for d in "$WORK/pg-replica" "$WORK/pg"; do
+    [ -f "$d/postmaster.pid" ] && "${PG_BIN:+$PG_BIN/}pg_ctl" -D "$d" -m fast stop >/dev/null 2>&1 || true
+  done
+}
+
+# env for running the app against DATABASE_URL; mail settings only need to resolve.
+# Rate limiting is off: every bench client comes from the same address.
+app_env() {
+  echo RATE_LIMIT_ENABLED=false \
+    SPRING_DATASOURCE_URL="$DATABASE_URL" \
+    SPRING_DATASOURCE_USERNAME="${SPRING_DATASOURCE_USERNAME:-postgres}" \
+    SPRING_DATASOURCE_PASSWORD="${SPRING_DATASOURCE_PASSWORD:-postgres}" \
+    SMTP_HOST=localhost SMTP_PORT=2525 SMTP_USER=bench SMTP_PASS=bench \
+    REMINDER_FROM_EMAIL=bench@example.com
+}
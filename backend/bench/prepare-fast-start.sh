@@ -0,0 +1,34 @@
+#!/usr/bin/env sh
+# Turns a jar built with -Pfast-start into the fast-start runtime layout:
+#   DEST/app.jar + DEST/lib/   extracted jar (CDS needs the exploded classpath)
+#   DEST/app.jsa               class-data-sharing archive from a training run
+#
+#   bench/prepare-fast-start.sh target/Interview-Tracker-0.0.1-SNAPSHOT.jar target/faststart
+#
+# The archive is only valid for the JVM that wrote it, so run this with the same java
+# that will run the app (Dockerfile.faststart does it inside the runtime image).
+set -eu
+
+JAR=$1
+DEST=$2
+
+rm -rf "$DEST"
+java -Djarmode=tools -jar "$JAR" extract --destination "$DEST"
+[ "$(basename "$JAR")" = app.jar ] || mv "$DEST/$(basename "$JAR")" "$DEST/app.jar"
+
+# Training run: refresh the context and exit. There's no database here, so skip
+# everything that would connect; the classes loaded on the way still go in the archive.
+# It runs without AOT because AOT freezes conditions like spring.flyway.enabled.
+# Mail settings only need to resolve.
+(cd "$DEST" && \
+  SMTP_HOST=localhost SMTP_PORT=25 SMTP_USER=cds SMTP_PASS=cds REMINDER_FROM_EMAIL=cds@example.com \
+  java -XX:ArchiveClassesAtExit=app.jsa \
+    -Dspring.context.exit=onRefresh \
+    -Dspring.profiles.active=fast-start \
+    -jar app.jar \
+    --spring.flyway.enabled=false \
+    --spring.jpa.hibernate.ddl-auto=none \
+    --spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false \
+    >training.log 2>&1) || { echo "training run failed, see $DEST/training.log"; exit 1; }
+
+echo "fast-start layout ready in $DEST"
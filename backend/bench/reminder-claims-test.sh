@@ -0,0 +1,21 @@
+#!/usr/bin/env sh
+# Runs ReminderOutboxWorkerTests (several outbox workers draining one outbox, as separate
+# instances would) against a throwaway local Postgres. The test is skipped without one.
+#
+#   bench/reminder-claims-test.sh
+set -eu
+
+cd "$(dirname "$0")/.."
+
+WORK=target/reminder-claims
+
+mkdir -p "$WORK"
+. bench/local-pg.sh
+trap stop_local_pg EXIT INT TERM
+
+start_local_pg
+
+REMINDER_TEST_DATABASE_URL="$DATABASE_URL" \
+REMINDER_TEST_DATABASE_USERNAME=postgres \
+REMINDER_TEST_DATABASE_PASSWORD=postgres \
+  ./mvnw -B -q -Dtest=ReminderOutboxWorkerTests -Dsurefire.failIfNoSpecifiedTests=false test
@@ -0,0 +1,86 @@
+#!/usr/bin/env sh
+# Cold-start benchmark: launches the app RUNS times per mode and reports time from exec
+# to the first 200 on /health, plus the process RSS at that moment (median of runs).
+#
+#   ./mvnw -Pfast-start -DskipTests package
+#   bench/startup.sh
+#
+# Modes: "default" is plain java -jar; "fast-start" is the extracted jar with the CDS
+# archive, AOT and lazy init (same as Dockerfile.faststart). Uses a throwaway local
+# Postgres like load-test.sh, or DATABASE_URL if set. Schema migrations are applied
+# before the first timed run so every run starts against the same schema.
+set -eu
+
+cd "$(dirname "$0")/.."
+
+JAR=${JAR:-$(ls target/Interview-Tracker-*.jar | head -n1)}
+PORT=${PORT:-18080}
+RUNS=${RUNS:-5}
+MODES=${MODES:-"default fast-start"}
+BASE="http://localhost:$PORT"
+WORK=target/startup
+
+mkdir -p "$WORK"
+. bench/local-pg.sh
+pid=""
+cleanup() {
+  [ -n "$pid" ] && kill "$pid" 2>/dev/null || true
+  stop_local_pg
+}
+trap cleanup EXIT INT TERM
+
+[ -n "${DATABASE_URL:-}" ] || start_local_pg
+
+case " $MODES " in
+  *" fast-start "*) bench/prepare-fast-start.sh "$JAR" "$WORK/faststart" >/dev/null ;;
+esac
+
+now_ms() {
+  echo $(($(date +%s%N) / 1000000))
+}
+
+# one launch; prints "<ms to first /health> <rss kB>"
+launch() {
+  mode=$1
+  start=$(now_ms)
+  if [ "$mode" = fast-start ]; then
+    (cd "$WORK/faststart" && exec env $(app_env) java -XX:SharedArchiveFile=app.jsa \
+      -Dspring.aot.enabled=true -Dspring.profiles.active=fast-start \
+      -jar app.jar --server.port="$PORT") >"$WORK/$mode.log" 2>&1 &
+  else
+    env $(app_env) java -jar "$JAR" --server.port="$PORT" >"$WORK/$mode.log" 2>&1 &
+  fi
+  pid=$!
+
+  until curl -fs "$BASE/health" >/dev/null 2>&1; do
+    kill -0 "$pid" 2>/dev/null || { echo "app exited, see $WORK/$mode.log" >&2; exit 1; }
+    sleep 0.05
+  done
+  elapsed=$(($(now_ms) - start))
+  rss=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  pid=""
+  echo "$elapsed $rss"
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }'
+}
+
+# untimed first boot applies the migrations
+launch default >/dev/null
+
+printf '%-12s %6s %16s %12s\n' mode runs "first /health ms" "RSS MB"
+for mode in $MODES; do
+  : >"$WORK/$mode.runs"
+  r=0
+  while [ $r -lt "$RUNS" ]; do
+    launch "$mode" >>"$WORK/$mode.runs"
+    r=$((r + 1))
+  done
+  ms=$(cut -d' ' -f1 "$WORK/$mode.runs" | median)
+  kb=$(cut -d' ' -f2 "$WORK/$mode.runs" | median)
+  printf '%-12s %6d %16d %12d\n' "$mode" "$RUNS" "$ms" $((kb / 1024))
+done
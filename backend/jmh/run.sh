@@ -0,0 +1,14 @@
+#!/usr/bin/env sh
+# Builds the JMH module and runs the benchmarks with the GC profiler, so every result
+# has both ops/time and gc.alloc.rate.norm (bytes allocated per op).
+#
+#   jmh/run.sh                       # everything
+#   jmh/run.sh JwtServiceBenchmark   # any JMH regex / options
+#
+# Results go to jmh/target/jmh-result.json; keep one from main to diff against.
+set -eu
+
+cd "$(dirname "$0")"
+
+../mvnw -q -f pom.xml -DskipTests package
+java -jar target/benchmarks.jar -prof gc -rf json -rff target/jmh-result.json "$@"
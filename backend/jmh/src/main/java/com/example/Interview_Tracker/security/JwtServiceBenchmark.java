@@ -0,0 +1,55 @@
+package com.example.Interview_Tracker.security;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token issue and verification. cacheSize=0 disables the verified-token cache so the
+ * full HMAC + JSON parse is measured; 10000 is the production default (cache hits).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Duser.timezone=UTC"})
+public class JwtServiceBenchmark {
+
+    @Param({"0", "10000"})
+    public int cacheSize;
+
+    private JwtService jwtService;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setup() throws Exception {
+        jwtService = new JwtService();
+        set("secret", "benchmark-secret-benchmark-secret-benchmark-secret");
+        set("expirationMs", 3_600_000L);
+        set("verifiedCacheSize", cacheSize);
+        jwtService.init();
+
+        userId = new UUID(42L, 42L);
+        token = jwtService.generateToken(userId, "bench@example.com");
+    }
+
+    private void set(String name, Object value) throws Exception {
+        Field f = JwtService.class.getDeclaredField(name);
+        f.setAccessible(true);
+        f.set(jwtService, value);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(userId, "bench@example.com");
+    }
+
+    @Benchmark
+    public UUID getUserId() {
+        return jwtService.getUserId(token);
+    }
+}
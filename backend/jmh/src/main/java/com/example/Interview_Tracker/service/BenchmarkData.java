@@ -0,0 +1,63 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewImportRowDto;
+import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.model.User;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+// fixed seed so every run (and every fork) sees identical inputs
+final class BenchmarkData {
+
+    private static final String[] COMPANIES = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark Industries"};
+    private static final String[] ROLES = {"Backend Engineer", "SRE", "Data Engineer", "Frontend Engineer"};
+    private static final String[] STATUSES = {"Scheduled", "Applied", "Offer", "Rejected"};
+    private static final Instant BASE = Instant.parse("2026-01-01T09:00:00Z");
+
+    private BenchmarkData() {
+    }
+
+    static User user() {
+        return User.builder()
+                .id(new UUID(1L, 1L))
+                .email("bench@example.com")
+                .build();
+    }
+
+    static List<Interview> interviews(int n) {
+        Random rnd = new Random(42);
+        User user = user();
+        List<Interview> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            out.add(Interview.builder()
+                    .id(new UUID(7L, i))
+                    .user(user)
+                    .company(COMPANIES[rnd.nextInt(COMPANIES.length)])
+                    .role(ROLES[rnd.nextInt(ROLES.length)])
+                    .interviewDate(BASE.plusSeconds(rnd.nextInt(90 * 86_400)))
+                    .status(STATUSES[rnd.nextInt(STATUSES.length)])
+                    .notes(rnd.nextBoolean() ? "" : "Bring portfolio, ask about on-call rotation #" + i)
+                    .build());
+        }
+        return out;
+    }
+
+    static List<InterviewImportRowDto> importRows(int n) {
+        Random rnd = new Random(42);
+        List<InterviewImportRowDto> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            InterviewImportRowDto r = new InterviewImportRowDto();
+            r.setCompany("  " + COMPANIES[rnd.nextInt(COMPANIES.length)] + " ");
+            r.setRole(ROLES[rnd.nextInt(ROLES.length)]);
+            r.setInterviewDate(" " + BASE.plusSeconds(rnd.nextInt(90 * 86_400)) + " ");
+            r.setStatus(rnd.nextInt(4) == 0 ? "" : STATUSES[rnd.nextInt(STATUSES.length)]);
+            r.setNotes(rnd.nextBoolean() ? null : "note " + i);
+            out.add(r);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewImportRowDto;
+import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-row import work without the DB: the importProblem checks plus trimming/defaulting
+ * in toImported, and the Instant.parse inside both, measured on its own. One op is a full import batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Duser.timezone=UTC"})
+public class ImportRowBenchmark {
+
+    private static final int BATCH = 500;
+
+    private User user;
+    private List<InterviewImportRowDto> rows;
+    private String[] dates;
+
+    @Setup
+    public void setup() {
+        user = BenchmarkData.user();
+        rows = BenchmarkData.importRows(BATCH);
+        dates = rows.stream().map(r -> r.getInterviewDate().trim()).toArray(String[]::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void toImported(Blackhole bh) {
+        for (InterviewImportRowDto r : rows) {
+            if (InterviewService.importProblem(r) == null) {
+                Interview i = InterviewService.toImported(user, r, 1L);
+                bh.consume(i);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void instantParse(Blackhole bh) {
+        for (String d : dates) {
+            bh.consume(Instant.parse(d));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewDtos;
+import com.example.Interview_Tracker.model.Interview;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The list endpoint's CPU path: entity to DTO mapping, then Jackson writing the page.
+ * Sizes match the default and maximum page size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Duser.timezone=UTC"})
+public class InterviewResponseBenchmark {
+
+    @Param({"50", "200"})
+    public int size;
+
+    private List<Interview> interviews;
+    private List<InterviewDtos.InterviewResponse> responses;
+    // configured the way Spring Boot configures the app's mapper
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() {
+        interviews = BenchmarkData.interviews(size);
+        responses = interviews.stream().map(InterviewService::toResponse).toList();
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public List<InterviewDtos.InterviewResponse> toResponse() {
+        return interviews.stream().map(InterviewService::toResponse).toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(interviews.stream().map(InterviewService::toResponse).toList());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.model.Interview;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// subject + body string building that ReminderJob does for every due interview
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-Duser.timezone=UTC"})
+public class ReminderBodyBenchmark {
+
+    private static final int DUE = 100;
+
+    private List<Interview> due;
+
+    @Setup
+    public void setup() {
+        due = BenchmarkData.interviews(DUE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DUE)
+    public void build(Blackhole bh) {
+        for (Interview it : due) {
+            bh.consume(ReminderJob.reminderSubject(it));
+            bh.consume(ReminderJob.reminderBody(it));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.Interview_Tracker.config;
+
+import com.example.Interview_Tracker.security.JwtService;
+import com.example.Interview_Tracker.security.PasswordHasher;
+import com.example.Interview_Tracker.security.RateLimiter;
+import com.example.Interview_Tracker.service.CalendarFeedCache;
+import com.example.Interview_Tracker.service.ImportFingerprintIndex;
+import com.example.Interview_Tracker.service.InterviewCache;
+import com.example.Interview_Tracker.service.ReminderTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Configuration
+public class AppMetricsConfig {
+
+    // in-process cache and pool counters, as app.<source>.<key> gauges on the management port
+    @Bean
+    public MeterBinder appStatsMetrics(JwtService jwtService,
+                                       PasswordHasher passwordHasher,
+                                       InterviewCache interviewCache,
+                                       CalendarFeedCache calendarFeedCache,
+                                       ImportFingerprintIndex importFingerprintIndex,
+                                       ReminderTimer reminderTimer,
+                                       RateLimiter rateLimiter) {
+        return registry -> {
+            register(registry, "app.jwt.verified.cache", jwtService::verifiedCacheStats);
+            register(registry, "app.password.hashing", passwordHasher::stats);
+            register(registry, "app.interview.cache", interviewCache::stats);
+            register(registry, "app.calendar.feed.cache", calendarFeedCache::stats);
+            register(registry, "app.import.fingerprint.filter", importFingerprintIndex::stats);
+            register(registry, "app.reminder.timer", reminderTimer::stats);
+            register(registry, "app.rate.limit", rateLimiter::stats);
+        };
+    }
+
+    private static void register(MeterRegistry registry, String prefix,
+                                 Supplier<? extends Map<String, ?>> stats) {
+        for (String key : stats.get().keySet()) {
+            Gauge.builder(prefix + "." + key, stats, s -> toDouble(s.get().get(key)))
+                    // the supplier is only referenced from here
+                    .strongReference(true)
+                    .register(registry);
+        }
+    }
+
+    private static double toDouble(Object value) {
+        return value instanceof Number n ? n.doubleValue() : Double.NaN;
+    }
+}
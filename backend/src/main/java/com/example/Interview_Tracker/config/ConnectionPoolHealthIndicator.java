@@ -0,0 +1,71 @@
+package com.example.Interview_Tracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Readiness signal for the JDBC pools: once too many request threads are queued for a
+ * connection in any pool (the primary, or the replica when DataSourceRoutingConfig is
+ * on), report OUT_OF_SERVICE so the load balancer backs off instead of piling more
+ * requests on. Only in the readiness group; a restart wouldn't fix saturation.
+ */
+@Component
+public class ConnectionPoolHealthIndicator implements HealthIndicator {
+
+    // by bean name, e.g. "primaryDataSource" and "replicaDataSource"
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+    private final int maxWaiting;
+
+    public ConnectionPoolHealthIndicator(Map<String, HikariDataSource> pools,
+                                         @Value("${app.health.pool.max-waiting:10}") int maxWaiting) {
+        // without a replica, replicaDataSource is the primary pool again; report it once
+        Set<HikariDataSource> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        new TreeMap<>(pools).forEach((name, pool) -> {
+            if (seen.add(pool)) {
+                this.pools.put(name, pool);
+            }
+        });
+        this.maxWaiting = maxWaiting;
+    }
+
+    @Override
+    public Health health() {
+        if (pools.isEmpty()) {
+            return Health.unknown().withDetail("reason", "no Hikari pool").build();
+        }
+        boolean saturated = false;
+        boolean started = false;
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (Map.Entry<String, HikariDataSource> e : pools.entrySet()) {
+            HikariPoolMXBean pool = e.getValue().getHikariPoolMXBean();
+            if (pool == null) {
+                details.put(e.getKey(), Map.of("reason", "not started"));
+                continue;
+            }
+            started = true;
+            int waiting = pool.getThreadsAwaitingConnection();
+            saturated |= waiting >= maxWaiting;
+            details.put(e.getKey(), Map.of(
+                    "active", pool.getActiveConnections(),
+                    "idle", pool.getIdleConnections(),
+                    "total", pool.getTotalConnections(),
+                    "waiting", waiting));
+        }
+        Health.Builder health = saturated ? Health.outOfService() : started ? Health.up() : Health.unknown();
+        return health
+                .withDetails(details)
+                .withDetail("maxWaiting", maxWaiting)
+                .build();
+    }
+}
@@ -19,8 +19,10 @@ public class CorsConfig {
                                 "https://interview-tracker-dusky.vercel.app",
                                 "https://*.vercel.app"
                         )
-                        .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
+                        .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        // Retry-After on 429s from RateLimitFilter
+                        .exposedHeaders("ETag", "Retry-After")
                         .allowCredentials(true);
             }
         };
@@ -0,0 +1,66 @@
+package com.example.Interview_Tracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Read-only transactions go to a replica when app.datasource.replica.jdbc-url is set.
+ * The beans are registered either way and the URL is only read at startup: with Spring
+ * AOT (the fast-start build) conditions are evaluated at build time, so a condition on
+ * the URL would freeze whatever the build machine had. Without a URL, replicaDataSource
+ * is the primary pool itself and every transaction goes there.
+ *
+ * The primary pool is configured from spring.datasource.*, the replica pool from
+ * app.datasource.replica.*.
+ */
+@Configuration
+public class DataSourceRoutingConfig {
+
+    static final String REPLICA_PREFIX = "app.datasource.replica";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                              Environment environment) {
+        if (!StringUtils.hasText(environment.getProperty(REPLICA_PREFIX + ".jdbc-url"))) {
+            return primary;
+        }
+        HikariDataSource replica = new HikariDataSource();
+        Binder.get(environment).bind(REPLICA_PREFIX, Bindable.ofInstance(replica));
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReadYourWrites readYourWrites) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(readYourWrites);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.Target.PRIMARY, primary,
+                ReplicaRoutingDataSource.Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.Interview_Tracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers which users wrote recently, so their read-only transactions stay on the
+ * primary until the replica has had time to catch up. Per node: behind a load balancer
+ * without sticky sessions, set the window above the worst replication lag you expect.
+ */
+@Component
+public class ReadYourWrites {
+
+    private static final int SWEEP_ABOVE = 10_000;
+
+    private final Map<UUID, Long> lastWriteMillis = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public ReadYourWrites(@Value("${app.datasource.read-your-writes-ms:10000}") long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    // marks the user once the current transaction commits (right away if there is none)
+    public void wroteOnCommit(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wrote(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wrote(userId);
+            }
+        });
+    }
+
+    void wrote(UUID userId) {
+        long now = System.currentTimeMillis();
+        lastWriteMillis.put(userId, now);
+        if (lastWriteMillis.size() > SWEEP_ABOVE) {
+            lastWriteMillis.values().removeIf(t -> now - t > windowMillis);
+        }
+    }
+
+    // true when the authenticated caller wrote within the window
+    boolean primaryRequired() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !(auth.getPrincipal() instanceof UUID userId)) {
+            return false;
+        }
+        Long last = lastWriteMillis.get(userId);
+        return last != null && System.currentTimeMillis() - last <= windowMillis;
+    }
+}
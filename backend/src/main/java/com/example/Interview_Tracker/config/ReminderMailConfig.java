@@ -0,0 +1,33 @@
+package com.example.Interview_Tracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ReminderMailConfig {
+
+    /**
+     * Bounded pool that delivers outbox reminders. When both the workers and the queue
+     * are full, submissions are rejected and the rows simply wait for the next poll.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reminderMailExecutor(
+            @Value("${app.reminders.outbox.workers:2}") int workers,
+            @Value("${app.reminders.outbox.queue-capacity:100}") int queueCapacity,
+            Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("reminder-mail-");
+        // virtual when spring.threads.virtual.enabled on Java 21+; still capped at `workers`
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.Interview_Tracker.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-only transactions go to the replica, everything else to the primary. Must sit
+ * behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is only
+ * known once it has begun, after the JPA transaction manager asked for a connection.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReadYourWrites readYourWrites;
+
+    ReplicaRoutingDataSource(ReadYourWrites readYourWrites) {
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && !readYourWrites.primaryRequired() ? Target.REPLICA : Target.PRIMARY;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.Interview_Tracker.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor applicationTaskExecutor;
+    private final long timeoutMs;
+
+    public WebAsyncConfig(@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                          ThreadPoolTaskExecutor applicationTaskExecutor,
+                          @Value("${app.web.async.timeout-ms:60000}") long timeoutMs) {
+        this.applicationTaskExecutor = applicationTaskExecutor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Runs StreamingResponseBody writes (calendar feed, export). Boot only defines
+     * applicationTaskExecutor when no other Executor bean exists, and reminderMailExecutor /
+     * passwordHashExecutor make it back off, which would leave MVC on an unbounded
+     * SimpleAsyncTaskExecutor. When workers and queue are full, new streams are rejected.
+     */
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public static ThreadPoolTaskExecutor applicationTaskExecutor(
+            @Value("${app.web.async.workers:16}") int workers,
+            @Value("${app.web.async.queue-capacity:100}") int queueCapacity,
+            Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        // virtual when spring.threads.virtual.enabled on Java 21+; still capped at `workers`
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(applicationTaskExecutor);
+        // a stalled client holds a worker at most this long
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
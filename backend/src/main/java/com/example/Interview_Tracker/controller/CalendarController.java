@@ -0,0 +1,55 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.service.CalendarFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private static final MediaType TEXT_CALENDAR = MediaType.parseMediaType("text/calendar;charset=UTF-8");
+
+    private final CalendarFeedService calendarFeedService;
+
+    // (re)issues the subscription URL; any previous one stops working
+    @PostMapping("/token")
+    public Map<String, String> rotateToken(Authentication auth) {
+        String token = calendarFeedService.rotateToken((UUID) auth.getPrincipal());
+        return Map.of("token", token, "path", "/api/calendar/feed/" + token + ".ics");
+    }
+
+    // public: the token in the path is the credential
+    @GetMapping("/feed/{token}.ics")
+    public ResponseEntity<StreamingResponseBody> feed(
+            @PathVariable String token,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            WebRequest request) {
+        CalendarFeedService.Feed feed = calendarFeedService.open(token, from, to)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
+
+        if (request.checkNotModified(feed.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .contentType(TEXT_CALENDAR)
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePrivate())
+                .body(out -> calendarFeedService.write(feed, out));
+    }
+}
@@ -1,12 +1,29 @@
 package com.example.Interview_Tracker.controller;
 
+import com.example.Interview_Tracker.dto.DuplicatePolicy;
+import com.example.Interview_Tracker.dto.ExportFormat;
+import com.example.Interview_Tracker.dto.ImportFormat;
 import com.example.Interview_Tracker.dto.InterviewDtos;
+import com.example.Interview_Tracker.service.InterviewExportService;
 import com.example.Interview_Tracker.service.InterviewService;
+import com.example.Interview_Tracker.service.InterviewStatsService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.example.Interview_Tracker.dto.InterviewImportRowDto;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 import java.util.List;
@@ -19,6 +36,8 @@ import com.example.Interview_Tracker.service.ReminderJob;
 public class InterviewController {
 
     private final InterviewService interviewService;
+    private final InterviewStatsService statsService;
+    private final InterviewExportService exportService;
     private final ReminderJob reminderJob;
     private UUID userId(Authentication auth) {
         return (UUID) auth.getPrincipal();
@@ -30,14 +49,82 @@ public class InterviewController {
         return interviewService.create(userId(auth), req);
     }
 
+    // both GETs answer If-None-Match with 304 before touching any interview rows
     @GetMapping
-    public List<InterviewDtos.InterviewResponse> list(Authentication auth) {
-        return interviewService.list(userId(auth));
+    public InterviewDtos.InterviewPage list(Authentication auth, InterviewDtos.ListQuery query, WebRequest request) {
+        long version = interviewService.currentVersion(userId(auth));
+        if (request.checkNotModified(InterviewService.listEtag(version, query))) {
+            return null;
+        }
+        return interviewService.list(userId(auth), query, version);
+    }
+
+    @GetMapping("/changes")
+    public InterviewDtos.ChangesResponse changes(Authentication auth,
+                                                 @RequestParam(required = false) String since,
+                                                 @RequestParam(required = false) Integer limit) {
+        return interviewService.changes(userId(auth), since, limit);
+    }
+
+    @GetMapping("/search")
+    public List<InterviewDtos.InterviewResponse> search(Authentication auth,
+                                                        @RequestParam(required = false) String q,
+                                                        @RequestParam(required = false) Integer limit) {
+        return interviewService.search(userId(auth), q, limit);
+    }
+
+    @GetMapping("/stats")
+    public InterviewDtos.StatsResponse stats(Authentication auth) {
+        return statsService.get(userId(auth));
+    }
+
+    // recomputes the counters from scratch, in case they ever drift
+    @PostMapping("/stats/rebuild")
+    public InterviewDtos.StatsResponse rebuildStats(Authentication auth) {
+        statsService.rebuild(userId(auth));
+        return statsService.get(userId(auth));
+    }
+
+    // streamed in keyset batches; the columns round-trip through /import
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(Authentication auth,
+                                                        @RequestParam(defaultValue = "csv") String format) {
+        UUID userId = userId(auth);
+        ExportFormat exportFormat = switch (format.toLowerCase()) {
+            case "csv" -> ExportFormat.CSV;
+            case "ndjson" -> ExportFormat.NDJSON;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be csv or ndjson");
+        };
+        boolean ndjson = exportFormat == ExportFormat.NDJSON;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(ndjson ? "application/x-ndjson" : "text/csv;charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(ndjson ? "interviews.ndjson" : "interviews.csv")
+                        .build()
+                        .toString())
+                .body(out -> exportService.export(userId, exportFormat, out));
+    }
+
+    // one UPDATE / DELETE for many interviews, selected by ids and/or filters
+    @PatchMapping("/bulk")
+    public InterviewDtos.BulkResult bulkUpdate(Authentication auth,
+                                               @Valid @RequestBody InterviewDtos.BulkUpdateRequest req) {
+        return interviewService.bulkUpdate(userId(auth), req);
+    }
+
+    @DeleteMapping("/bulk")
+    public InterviewDtos.BulkResult bulkDelete(Authentication auth,
+                                               @RequestBody InterviewDtos.BulkSelection where) {
+        return interviewService.bulkDelete(userId(auth), where);
     }
 
     @GetMapping("/{id}")
-    public InterviewDtos.InterviewResponse get(Authentication auth, @PathVariable UUID id) {
-        return interviewService.get(userId(auth), id);
+    public InterviewDtos.InterviewResponse get(Authentication auth, @PathVariable UUID id, WebRequest request) {
+        long version = interviewService.currentVersion(userId(auth));
+        if (request.checkNotModified(InterviewService.itemEtag(version, id))) {
+            return null;
+        }
+        return interviewService.get(userId(auth), id, version);
     }
 
     @PutMapping("/{id}")
@@ -52,13 +139,48 @@ public class InterviewController {
         interviewService.delete(userId(auth), id);
     }
 
-    @PostMapping("/import")
-    public Map<String, Object> importInterviews(
+    // duplicates=skip|update: what to do with rows imported before (see ImportFingerprint)
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public InterviewDtos.ImportResult importInterviews(
             Authentication auth,
-            @Valid @RequestBody List<InterviewImportRowDto> rows
+            @Valid @RequestBody List<InterviewImportRowDto> rows,
+            @RequestParam(defaultValue = "skip") String duplicates
     ) {
-        int imported = interviewService.importRows(userId(auth), rows);
-        return Map.of("imported", imported);
+        return interviewService.importRows(userId(auth), rows, duplicatePolicy(duplicates));
+    }
+
+    // streaming import: raw CSV / NDJSON request body, parsed as it arrives
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public InterviewDtos.ImportResult importStream(Authentication auth, HttpServletRequest request,
+                                                   @RequestParam(defaultValue = "skip") String duplicates) throws IOException {
+        DuplicatePolicy policy = duplicatePolicy(duplicates);
+        ImportFormat format = request.getContentType().startsWith("application/x-ndjson")
+                ? ImportFormat.NDJSON
+                : ImportFormat.CSV;
+        return interviewService.importStream(userId(auth), request.getInputStream(), format, policy);
+    }
+
+    // same, as a file upload; format comes from the part's content type or file extension
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public InterviewDtos.ImportResult importUpload(Authentication auth,
+                                                   @RequestPart("file") MultipartFile file,
+                                                   @RequestParam(defaultValue = "skip") String duplicates) throws IOException {
+        DuplicatePolicy policy = duplicatePolicy(duplicates);
+        String name = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase();
+        boolean ndjson = "application/x-ndjson".equals(file.getContentType())
+                || name.endsWith(".ndjson") || name.endsWith(".jsonl");
+
+        try (InputStream in = file.getInputStream()) {
+            return interviewService.importStream(userId(auth), in, ndjson ? ImportFormat.NDJSON : ImportFormat.CSV, policy);
+        }
+    }
+
+    private static DuplicatePolicy duplicatePolicy(String duplicates) {
+        return switch (duplicates.toLowerCase()) {
+            case "skip" -> DuplicatePolicy.SKIP;
+            case "update" -> DuplicatePolicy.UPDATE;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "duplicates must be skip or update");
+        };
     }
 
     @PostMapping("/test-email")
@@ -0,0 +1,7 @@
+package com.example.Interview_Tracker.dto;
+
+// what an import does with a row that matches one already imported
+public enum DuplicatePolicy {
+    SKIP,
+    UPDATE
+}
@@ -0,0 +1,6 @@
+package com.example.Interview_Tracker.dto;
+
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
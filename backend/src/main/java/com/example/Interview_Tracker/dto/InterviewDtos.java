@@ -1,15 +1,24 @@
 package com.example.Interview_Tracker.dto;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class InterviewDtos {
 
+    public static final int MAX_REMINDER_OFFSET_MINUTES = 30 * 24 * 60;
+
     @Getter
     @Setter
     public static class CreateInterviewRequest {
@@ -24,6 +33,11 @@ public class InterviewDtos {
 
         private String status;
         private String notes;
+
+        // minutes before the interview; defaults to a day
+        @Min(0)
+        @Max(MAX_REMINDER_OFFSET_MINUTES)
+        private Integer reminderOffsetMinutes;
     }
 
     @Getter
@@ -40,6 +54,11 @@ public class InterviewDtos {
 
         private String status;
         private String notes;
+
+        // null keeps the current offset; ignored once the reminder has gone out
+        @Min(0)
+        @Max(MAX_REMINDER_OFFSET_MINUTES)
+        private Integer reminderOffsetMinutes;
     }
 
     @Getter
@@ -51,5 +70,92 @@ public class InterviewDtos {
         private Instant interviewDate;
         private String status;
         private String notes;
+        private int reminderOffsetMinutes;
+    }
+
+    // query params for GET /api/interviews (all optional)
+    @Getter
+    @Setter
+    public static class ListQuery {
+        private String cursor;
+        private Integer limit;
+        private String status;
+        private String company;
+        private Instant from; // inclusive
+        private Instant to;   // exclusive
+    }
+
+    @Getter
+    @Setter
+    public static class InterviewPage {
+        private List<InterviewResponse> items;
+        private String nextCursor; // null on the last page
+    }
+
+    // which interviews a bulk call touches: explicit ids and/or the same filters as the list
+    @Getter
+    @Setter
+    public static class BulkSelection {
+        private List<UUID> ids;
+        private String status;
+        private String company;
+        private Instant from;
+        private Instant to;
+    }
+
+    @Getter
+    @Setter
+    public static class BulkUpdateRequest {
+        @Valid
+        @NotNull
+        private BulkSelection where;
+
+        // only non-null fields are changed
+        private String status;
+        private String notes;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class BulkResult {
+        private int affected;
+    }
+
+    @Getter
+    @Setter
+    public static class ImportResult {
+        private long imported; // inserted + updated
+        private long inserted;
+        private long updated;
+        private long skipped; // already imported, or repeated within the upload
+        private long rejected;
+        private List<ImportReject> rejects = new ArrayList<>(); // capped, see InterviewService
+        private long elapsedMs;
+        private long rowsPerSecond;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImportReject {
+        private long row;
+        private String reason;
+    }
+
+    @Getter
+    @Setter
+    public static class ChangesResponse {
+        private List<InterviewResponse> upserts = new ArrayList<>();
+        private List<UUID> deletes = new ArrayList<>();
+        private String next;      // pass back as ?since= next time
+        private boolean hasMore;  // more changes are ready right now; call again with next
+        private boolean reset;    // token too old: refetch the full list, then sync from next
+    }
+
+    @Getter
+    @Setter
+    public static class StatsResponse {
+        private Map<String, Long> byStatus;
+        private Map<String, Long> byCompany;
+        private Map<String, Long> byWeek; // keyed by the Monday (UTC) starting each ISO week
     }
-}
\ No newline at end of file
+}
@@ -2,17 +2,35 @@ package com.example.Interview_Tracker.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
 import java.util.UUID;
 
 @Entity
-@Table(name = "interviews")
+// indexes are created by db/migration; listed here so the entity documents its access paths
+@Table(name = "interviews", indexes = {
+        // serves the keyset-paginated list: where user_id = ? order by interview_date desc, id desc
+        @Index(name = "idx_interviews_user_date_id", columnList = "user_id, interview_date, id"),
+        // serves /changes: where user_id = ? and change_seq > ? order by change_seq, id
+        @Index(name = "idx_interviews_user_seq", columnList = "user_id, change_seq, id"),
+        // re-import duplicate check; partial (import_fingerprint is not null) in the migration
+        @Index(name = "uk_interviews_user_import_fingerprint", columnList = "user_id, import_fingerprint", unique = true)
+        // idx_interviews_user_company_date_id is an expression index, in V1__baseline.sql
+})
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
 public class Interview {
 
+    public static final int DEFAULT_REMINDER_OFFSET_MINUTES = 24 * 60;
+
+    // column limits; imports check rows against these before writing (InterviewService.importProblem)
+    public static final int MAX_COMPANY_LENGTH = 120;
+    public static final int MAX_ROLE_LENGTH = 120;
+    public static final int MAX_STATUS_LENGTH = 40;
+    public static final int MAX_NOTES_LENGTH = 2000;
+
     @Id
     @GeneratedValue
     private UUID id;
@@ -21,21 +39,53 @@ public class Interview {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, length = 120)
+    @Column(nullable = false, length = MAX_COMPANY_LENGTH)
     private String company;
 
-    @Column(nullable = false, length = 120)
+    @Column(nullable = false, length = MAX_ROLE_LENGTH)
     private String role;
 
     @Column(nullable = false)
     private Instant interviewDate;
 
-    @Column(length = 40)
+    @Column(length = MAX_STATUS_LENGTH)
     private String status; // Scheduled, Completed, Rejected, Offer, etc.
 
-    @Column(length = 2000)
+    @Column(length = MAX_NOTES_LENGTH)
     private String notes;
 
-    @Column
+    // set only when the reminder is claimed (InterviewReminderClaims), so an edit saved after
+    // the reminder went out can't write back the null it loaded
+    @Column(updatable = false)
     private Instant reminderSentAt;
+
+    // how long before interviewDate the reminder goes out
+    @Column(nullable = false)
+    @ColumnDefault("1440")
+    @Builder.Default
+    private int reminderOffsetMinutes = DEFAULT_REMINDER_OFFSET_MINUTES;
+
+    // interviewDate minus the offset; derived in touch(), indexed for the reminder scheduler
+    @Column(nullable = false)
+    private Instant reminderDueAt;
+
+    // the owner's User.dataVersion as of the last client-visible change to this row
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long changeSeq;
+
+    @Column
+    private Instant updatedAt;
+
+    // set on imported rows only; unique per user (see ImportFingerprint)
+    @Column(length = 32)
+    private String importFingerprint;
+
+    // also called for rows inserted with plain JDBC (InterviewService import)
+    @PrePersist
+    @PreUpdate
+    public void touch() {
+        updatedAt = Instant.now();
+        reminderDueAt = interviewDate.minusSeconds(reminderOffsetMinutes * 60L);
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.Interview_Tracker.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * One pre-aggregated counter, e.g. (user, STATUS, "Offer") -> 3. Maintained by
+ * InterviewStatsService on every write instead of being computed per request.
+ */
+@Entity
+@Table(name = "interview_stats")
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+public class InterviewStat {
+
+    public enum Dimension { STATUS, COMPANY, WEEK }
+
+    @Embeddable
+    @Getter @Setter
+    @NoArgsConstructor @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Column(name = "user_id", nullable = false)
+        private UUID userId;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 16)
+        private Dimension dimension;
+
+        @Column(nullable = false, length = 120)
+        private String bucket;
+    }
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private long count;
+}
@@ -0,0 +1,38 @@
+package com.example.Interview_Tracker.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Left behind when an interview is deleted, so /api/interviews/changes can report the
+ * deletion. Pruned after app.sync.tombstone-retention-days.
+ */
+@Entity
+@Table(name = "interview_tombstones", indexes = {
+        @Index(name = "idx_tombstones_user_seq", columnList = "user_id, change_seq"),
+        @Index(name = "idx_tombstones_deleted_at", columnList = "deleted_at")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class InterviewTombstone {
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false)
+    private UUID interviewId;
+
+    @Column(nullable = false)
+    private long changeSeq;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+}
@@ -0,0 +1,67 @@
+package com.example.Interview_Tracker.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A reminder email waiting to be delivered. Rows are written in the same
+ * transaction that marks the interview as reminded, and drained by
+ * {@code ReminderOutboxWorker} outside of any transaction. A row being sent is
+ * claimed by one instance until claimedUntil (see ReminderOutboxClaims).
+ */
+@Entity
+@Table(name = "reminder_outbox", indexes = {
+        @Index(name = "idx_reminder_outbox_status_next", columnList = "status, next_attempt_at")
+})
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class ReminderOutbox {
+
+    public enum Status { PENDING, SENT, FAILED }
+
+    @Id
+    @GeneratedValue
+    private UUID id;
+
+    // plain column rather than a FK so deleting the interview doesn't block on the outbox
+    @Column(nullable = false, unique = true)
+    private UUID interviewId;
+
+    @Column(nullable = false, length = 120)
+    private String recipient;
+
+    @Column(nullable = false, length = 300)
+    private String subject;
+
+    @Column(nullable = false, length = 4000)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column
+    private Instant sentAt;
+
+    @Column(length = 64)
+    private String claimedBy;
+
+    @Column
+    private Instant claimedUntil;
+}
@@ -2,6 +2,7 @@ package com.example.Interview_Tracker.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.UUID;
 
@@ -21,4 +22,15 @@ public class User {
 
     @Column(nullable = false)
     private String passwordHash;
+
+    // bumped on every change to this user's interviews; backs the ETags on /api/interviews.
+    // Only UserRepository.bumpDataVersion writes it: saving a loaded User must never put
+    // back a stale value over a concurrent bump, or a version number would be reused.
+    @Column(nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long dataVersion;
+
+    // secret in the .ics subscription URL (calendar apps can't send a bearer token)
+    @Column(unique = true, length = 64)
+    private String calendarToken;
 }
@@ -0,0 +1,55 @@
+package com.example.Interview_Tracker.repo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Claims interviews for their reminder by setting reminder_sent_at in the same statement
+ * that picks them, so a row is handed to exactly one caller: a second instance firing the
+ * same reminder either skips the row while it is locked or, once the claim has committed,
+ * no longer matches "reminder_sent_at is null". Run inside the transaction that queues the
+ * outbox rows; if that rolls back, so does the claim.
+ *
+ * The only writer of reminder_sent_at (the entity maps it read-only).
+ */
+@Repository
+@RequiredArgsConstructor
+public class InterviewReminderClaims {
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    // the given interviews whose unsent reminder is due by now; rows held by another transaction are skipped
+    public List<UUID> claimDue(Collection<UUID> ids, Instant now) {
+        return claim("id in (:ids) and reminder_due_at <= :now",
+                new MapSqlParameterSource("ids", ids)
+                        .addValue("now", Timestamp.from(now)));
+    }
+
+    // digest mode: the rest of these users' unsent reminders due by `until`, for interviews still ahead
+    public List<UUID> claimDueForUsers(Collection<UUID> userIds, Instant until, Instant now) {
+        return claim("user_id in (:userIds) and reminder_due_at <= :until and interview_date > :now",
+                new MapSqlParameterSource("userIds", userIds)
+                        .addValue("until", Timestamp.from(until))
+                        .addValue("now", Timestamp.from(now)));
+    }
+
+    private List<UUID> claim(String where, MapSqlParameterSource params) {
+        // partial idx_interviews_unsent_reminder_due serves the inner select
+        return jdbc.queryForList(
+                "update interviews i set reminder_sent_at = :now "
+                        + "where i.id in ("
+                        + "select id from interviews "
+                        + "where reminder_sent_at is null and " + where + " "
+                        + "for update skip locked) "
+                        + "returning i.id",
+                params, UUID.class);
+    }
+}
@@ -1,15 +1,72 @@
 package com.example.Interview_Tracker.repo;
 
 import com.example.Interview_Tracker.model.Interview;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface InterviewRepository extends JpaRepository<Interview, UUID> {
+public interface InterviewRepository extends JpaRepository<Interview, UUID>, JpaSpecificationExecutor<Interview> {
     List<Interview> findAllByUserIdOrderByInterviewDateDesc(UUID userId);
     Optional<Interview> findByIdAndUserId(UUID id, UUID userId);
-    // interviews between [start, end) that haven't been reminded yet
-    List<Interview> findByInterviewDateBetweenAndReminderSentAtIsNull(Instant start, Instant end);
+    // whether another of the user's rows already carries this import fingerprint
+    boolean existsByUserIdAndImportFingerprintAndIdNot(UUID userId, String importFingerprint, UUID id);
+    // reminders not sent yet that are due before `until`, for interviews still ahead; partial index from V6
+    @Query("select i.id as id, i.reminderDueAt as reminderDueAt from Interview i "
+            + "where i.reminderSentAt is null and i.reminderDueAt <= :until and i.interviewDate > :now")
+    List<ReminderDue> findUnremindedDue(@Param("until") Instant until, @Param("now") Instant now);
+    // candidates InterviewReminderClaims skipped that are still due: held by another transaction, not sent
+    @Query("select i.id from Interview i "
+            + "where i.id in :ids and i.reminderSentAt is null and i.reminderDueAt <= :now")
+    List<UUID> findDueIdsIn(@Param("ids") Collection<UUID> ids, @Param("now") Instant now);
+
+    // delta sync: rows changed after (afterSeq, afterId) up to upToSeq, in (changeSeq, id) order
+    @Query("select i from Interview i where i.user.id = :userId "
+            + "and (i.changeSeq > :afterSeq or (i.changeSeq = :afterSeq and i.id > :afterId)) "
+            + "and i.changeSeq <= :upToSeq "
+            + "order by i.changeSeq, i.id")
+    List<Interview> findChanged(@Param("userId") UUID userId,
+                                @Param("afterSeq") long afterSeq,
+                                @Param("afterId") UUID afterId,
+                                @Param("upToSeq") long upToSeq,
+                                Limit limit);
+
+    // calendar feed; consume inside a transaction and close the stream
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("select i from Interview i where i.user.id = :userId "
+            + "and i.interviewDate >= :from and i.interviewDate < :to order by i.interviewDate")
+    Stream<Interview> streamForFeed(@Param("userId") UUID userId,
+                                    @Param("from") Instant from,
+                                    @Param("to") Instant to);
+
+    // export, in keyset batches over idx_interviews_user_date_id: the first batch, then the
+    // rows after (beforeDate, beforeId) in (interviewDate desc, id desc) order
+    @Query("select i from Interview i where i.user.id = :userId order by i.interviewDate desc, i.id desc")
+    List<Interview> findExportBatch(@Param("userId") UUID userId, Limit limit);
+    @Query("select i from Interview i where i.user.id = :userId "
+            + "and (i.interviewDate < :beforeDate or (i.interviewDate = :beforeDate and i.id < :beforeId)) "
+            + "order by i.interviewDate desc, i.id desc")
+    List<Interview> findExportBatchAfter(@Param("userId") UUID userId,
+                                         @Param("beforeDate") Instant beforeDate,
+                                         @Param("beforeId") UUID beforeId,
+                                         Limit limit);
+
+    // ranked full-text match; search_vector and its (user_id, search_vector) GIN index come from V2__interview_search.sql
+    @Query(value = "select i.* from interviews i, to_tsquery('simple', :query) q "
+            + "where i.user_id = :userId and i.search_vector @@ q "
+            + "order by ts_rank(i.search_vector, q) desc, i.interview_date desc "
+            + "limit :limit", nativeQuery = true)
+    List<Interview> search(@Param("userId") UUID userId,
+                           @Param("query") String tsQuery,
+                           @Param("limit") int limit);
 }
@@ -0,0 +1,45 @@
+package com.example.Interview_Tracker.repo;
+
+import com.example.Interview_Tracker.model.Interview;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public final class InterviewSpecs {
+
+    private InterviewSpecs() {
+    }
+
+    public static Specification<Interview> ownedBy(UUID userId) {
+        return (root, q, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<Interview> hasStatus(String status) {
+        return (root, q, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Interview> companyIs(String company) {
+        return (root, q, cb) -> cb.equal(cb.lower(root.get("company")), company.toLowerCase());
+    }
+
+    // [from, to)
+    public static Specification<Interview> dateFrom(Instant from) {
+        return (root, q, cb) -> cb.greaterThanOrEqualTo(root.get("interviewDate"), from);
+    }
+
+    public static Specification<Interview> dateBefore(Instant to) {
+        return (root, q, cb) -> cb.lessThan(root.get("interviewDate"), to);
+    }
+
+    // keyset: rows strictly after (date, id) in "interviewDate desc, id desc" order
+    public static Specification<Interview> after(Instant date, UUID id) {
+        return (root, q, cb) -> cb.or(
+                cb.lessThan(root.get("interviewDate"), date),
+                cb.and(
+                        cb.equal(root.get("interviewDate"), date),
+                        cb.lessThan(root.<UUID>get("id"), id)
+                )
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.Interview_Tracker.repo;
+
+import com.example.Interview_Tracker.model.InterviewStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface InterviewStatRepository extends JpaRepository<InterviewStat, InterviewStat.Key> {
+
+    @Query("select s from InterviewStat s where s.id.userId = :userId and s.count > 0")
+    List<InterviewStat> findNonZero(@Param("userId") UUID userId);
+}
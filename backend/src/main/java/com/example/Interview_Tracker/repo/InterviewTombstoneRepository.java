@@ -0,0 +1,27 @@
+package com.example.Interview_Tracker.repo;
+
+import com.example.Interview_Tracker.model.InterviewTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface InterviewTombstoneRepository extends JpaRepository<InterviewTombstone, UUID> {
+
+    // deletions in (afterSeq, upToSeq]
+    @Query("select t.interviewId from InterviewTombstone t "
+            + "where t.userId = :userId and t.changeSeq > :afterSeq and t.changeSeq <= :upToSeq")
+    List<UUID> findDeletedIds(@Param("userId") UUID userId,
+                              @Param("afterSeq") long afterSeq,
+                              @Param("upToSeq") long upToSeq);
+
+    @Transactional
+    @Modifying
+    @Query("delete from InterviewTombstone t where t.deletedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,11 @@
+package com.example.Interview_Tracker.repo;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// projection for the reminder reconciliation scan
+public interface ReminderDue {
+    UUID getId();
+
+    Instant getReminderDueAt();
+}
@@ -0,0 +1,84 @@
+package com.example.Interview_Tracker.repo;
+
+import com.example.Interview_Tracker.model.ReminderOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outbox row claiming for multi-instance deployments. Every statement runs in its own
+ * auto-commit transaction, so a claim is visible to the other instances as soon as it
+ * returns and no connection is held while mail is being sent.
+ *
+ * Outcomes only apply while the caller still owns the row: once a lease has expired and
+ * another instance has claimed it, the late writer's update matches nothing.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReminderOutboxClaims {
+
+    private static final RowMapper<ReminderOutbox> ROW = (rs, n) -> ReminderOutbox.builder()
+            .id(rs.getObject("id", UUID.class))
+            .interviewId(rs.getObject("interview_id", UUID.class))
+            .recipient(rs.getString("recipient"))
+            .subject(rs.getString("subject"))
+            .body(rs.getString("body"))
+            .status(ReminderOutbox.Status.valueOf(rs.getString("status")))
+            .attempts(rs.getInt("attempts"))
+            .nextAttemptAt(rs.getTimestamp("next_attempt_at").toInstant())
+            .lastError(rs.getString("last_error"))
+            .createdAt(rs.getTimestamp("created_at").toInstant())
+            .claimedBy(rs.getString("claimed_by"))
+            .claimedUntil(rs.getTimestamp("claimed_until").toInstant())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // up to `limit` ready rows, oldest first; rows another instance is claiming right now are skipped
+    public List<ReminderOutbox> claim(String owner, int limit, Instant now, Duration lease) {
+        return jdbcTemplate.query(
+                "update reminder_outbox o set claimed_by = ?, claimed_until = ? "
+                        + "where o.id in ("
+                        + "select id from reminder_outbox "
+                        + "where status = 'PENDING' and next_attempt_at <= ? "
+                        + "and (claimed_until is null or claimed_until < ?) "
+                        + "order by next_attempt_at "
+                        + "limit ? "
+                        + "for update skip locked) "
+                        + "returning o.*",
+                ROW,
+                owner, Timestamp.from(now.plus(lease)), Timestamp.from(now), Timestamp.from(now), limit);
+    }
+
+    // hands rows back unsent, e.g. when the local mail pool is full
+    public void release(String owner, List<UUID> ids) {
+        jdbcTemplate.batchUpdate(
+                "update reminder_outbox set claimed_by = null, claimed_until = null where id = ? and claimed_by = ?",
+                ids.stream().map(id -> new Object[]{id, owner}).toList());
+    }
+
+    public boolean markSent(UUID id, String owner, Instant now) {
+        return jdbcTemplate.update(
+                "update reminder_outbox set status = 'SENT', sent_at = ?, attempts = attempts + 1, "
+                        + "last_error = null, claimed_by = null, claimed_until = null "
+                        + "where id = ? and claimed_by = ?",
+                Timestamp.from(now), id, owner) == 1;
+    }
+
+    // status is PENDING to retry at nextAttemptAt, or FAILED to give up
+    public boolean markFailed(UUID id, String owner, ReminderOutbox.Status status,
+                              Instant nextAttemptAt, String error) {
+        return jdbcTemplate.update(
+                "update reminder_outbox set status = ?, attempts = attempts + 1, next_attempt_at = ?, "
+                        + "last_error = ?, claimed_by = null, claimed_until = null "
+                        + "where id = ? and claimed_by = ?",
+                status.name(), Timestamp.from(nextAttemptAt), error, id, owner) == 1;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.Interview_Tracker.repo;
+
+import com.example.Interview_Tracker.model.ReminderOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// inserts only; draining goes through ReminderOutboxClaims
+public interface ReminderOutboxRepository extends JpaRepository<ReminderOutbox, UUID> {
+    // a PENDING row for the interview, unless it already has one (uk_reminder_outbox_interview_id);
+    // 0 when it did, without aborting the caller's transaction the way a failed insert would
+    @Modifying
+    @Query(value = "insert into reminder_outbox (id, interview_id, recipient, subject, body, status, attempts, "
+            + "next_attempt_at, created_at) "
+            + "values (gen_random_uuid(), :interviewId, :recipient, :subject, :body, 'PENDING', 0, :now, :now) "
+            + "on conflict (interview_id) do nothing", nativeQuery = true)
+    int enqueue(@Param("interviewId") UUID interviewId,
+                @Param("recipient") String recipient,
+                @Param("subject") String subject,
+                @Param("body") String body,
+                @Param("now") Instant now);
+}
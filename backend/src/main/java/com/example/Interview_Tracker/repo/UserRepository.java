@@ -2,11 +2,24 @@ package com.example.Interview_Tracker.repo;
 
 import com.example.Interview_Tracker.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
+    Optional<User> findByCalendarToken(String calendarToken);
     boolean existsByEmail(String email);
+
+    @Query("select u.dataVersion from User u where u.id = :id")
+    Optional<Long> findDataVersion(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.dataVersion = u.dataVersion + 1 where u.id = :id")
+    int bumpDataVersion(@Param("id") UUID id);
 }
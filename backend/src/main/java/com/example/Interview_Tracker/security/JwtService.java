@@ -1,8 +1,11 @@
 package com.example.Interview_Tracker.security;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -10,6 +13,7 @@ import org.springframework.stereotype.Service;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -22,9 +26,22 @@ public class JwtService {
     @Value("${app.jwt.expiration-ms}")
     private long expirationMs;
 
-    private Key key() {
+    @Value("${app.jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    // built once; both are immutable and thread-safe
+    private Key key;
+    private JwtParser parser;
+    private VerifiedTokenCache verified;
+
+    @PostConstruct
+    void init() {
         // Ensure secret is long enough (32+ chars recommended)
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+        verified = new VerifiedTokenCache(verifiedCacheSize);
     }
 
     public String generateToken(UUID userId, String email) {
@@ -36,18 +53,33 @@ public class JwtService {
                 .claim("email", email)
                 .setIssuedAt(now)
                 .setExpiration(exp)
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public UUID getUserId(String token) {
-        String sub = Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-
-        return UUID.fromString(sub);
+        long now = System.currentTimeMillis();
+        String cacheKey = verified.keyFor(token);
+
+        UUID cached = verified.get(cacheKey, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        UUID userId = UUID.fromString(claims.getSubject());
+
+        // tokens without exp aren't issued by us, so don't remember them
+        if (claims.getExpiration() != null) {
+            verified.put(cacheKey, userId, claims.getExpiration().getTime(), now);
+        }
+        return userId;
+    }
+
+    public Map<String, Long> verifiedCacheStats() {
+        return Map.of(
+                "hits", verified.hits(),
+                "misses", verified.misses(),
+                "size", (long) verified.size());
     }
 }
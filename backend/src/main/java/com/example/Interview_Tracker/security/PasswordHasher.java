@@ -0,0 +1,111 @@
+package com.example.Interview_Tracker.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs bcrypt on the small passwordHashExecutor pool instead of request threads, so a
+ * burst of logins can only ever use that many cores. When the pool's queue is full the
+ * caller gets a 503 straight away rather than piling up behind it.
+ */
+@Component
+@RequiredArgsConstructor
+public class PasswordHasher {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+
+    @Qualifier("passwordHashExecutor")
+    private final ThreadPoolTaskExecutor passwordHashExecutor;
+
+    @Value("${app.auth.bcrypt-cost:10}")
+    private int bcryptCost;
+
+    @Value("${app.auth.hash-timeout-ms:10000}")
+    private long timeoutMs;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder rejected = new LongAdder();
+
+    public String encode(String raw) {
+        return run(() -> passwordEncoder.encode(raw));
+    }
+
+    public boolean matches(String raw, String hash) {
+        return run(() -> passwordEncoder.matches(raw, hash));
+    }
+
+    // true when the stored hash was made with a different cost than the configured one
+    public boolean needsRehash(String hash) {
+        Matcher m = BCRYPT_COST.matcher(hash);
+        return m.find() && Integer.parseInt(m.group(1)) != bcryptCost;
+    }
+
+    private <T> T run(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = passwordHashExecutor.submit(() -> timed(work));
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Server busy, try again shortly.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Server busy, try again shortly.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Server busy, try again shortly.");
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private <T> T timed(Callable<T> work) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return work.call();
+        } finally {
+            long took = System.nanoTime() - start;
+            hashes.increment();
+            hashNanos.add(took);
+            maxHashNanos.accumulate(took);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        long count = hashes.sum();
+        return Map.of(
+                "hashes", count,
+                "avgMs", count == 0 ? 0 : hashNanos.sum() / count / 1_000_000,
+                "maxMs", maxHashNanos.get() / 1_000_000,
+                "rejected", rejected.sum(),
+                "active", passwordHashExecutor.getActiveCount(),
+                "queueDepth", passwordHashExecutor.getThreadPoolExecutor().getQueue().size());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.Interview_Tracker.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-route rate limits, keyed on the user once JwtAuthFilter has run and on the client
+ * IP otherwise. Over the limit the request is answered 429 with Retry-After and never
+ * reaches a controller.
+ *
+ * Not a bean on purpose: Spring Boot would also register it as a plain servlet filter
+ * ahead of the security chain, where no user is known yet. SecurityConfig adds it.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private record Rule(String name, String method, String path, long intervalNanos, long burstNanos) {
+    }
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    private final RateLimiter limiter;
+    private final String clientIpHeader;
+    private final List<Rule> rules;
+
+    public RateLimitFilter(RateLimiter limiter, RateLimitProperties properties) {
+        this.limiter = limiter;
+        this.clientIpHeader = properties.clientIpHeader();
+        this.rules = properties.routes().stream()
+                .map(r -> {
+                    long interval = TimeUnit.MINUTES.toNanos(1) / Math.max(1, r.refillPerMinute());
+                    long burst = interval * (Math.max(1, r.capacity()) - 1);
+                    return new Rule(r.name(), r.method(), r.path(), interval, burst);
+                })
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equalsIgnoreCase(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Rule rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = rule.name() + "|" + client(request);
+        long waitNanos = limiter.tryAcquire(key, rule.intervalNanos(), rule.burstNanos(), System.nanoTime());
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests.");
+    }
+
+    private Rule match(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (Rule r : rules) {
+            if ((r.method() == null || r.method().equalsIgnoreCase(request.getMethod()))
+                    && PATHS.match(r.path(), path)) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    private String client(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.getPrincipal() instanceof UUID userId) {
+            return userId.toString();
+        }
+        if (!clientIpHeader.isBlank()) {
+            String forwarded = request.getHeader(clientIpHeader);
+            if (forwarded != null && !forwarded.isBlank()) {
+                return "ip:" + forwarded.trim();
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
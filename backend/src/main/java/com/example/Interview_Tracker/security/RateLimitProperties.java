@@ -0,0 +1,27 @@
+package com.example.Interview_Tracker.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * app.rate-limit: per-route token buckets, see RateLimitFilter. Routes are matched in
+ * order and the first match wins, so list specific paths before catch-alls.
+ */
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        // header the edge proxy puts the real client address in; blank means use the socket address
+        @DefaultValue("") String clientIpHeader,
+        // upper bound on live buckets across all routes
+        @DefaultValue("500000") int maxKeys,
+        @DefaultValue List<Route> routes) {
+
+    /**
+     * capacity is the burst; refillPerMinute the sustained rate. method is optional and
+     * path is an Ant-style pattern.
+     */
+    public record Route(String name, String method, String path, int capacity, int refillPerMinute) {
+    }
+}
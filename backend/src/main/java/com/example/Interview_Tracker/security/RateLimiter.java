@@ -0,0 +1,129 @@
+package com.example.Interview_Tracker.security;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token buckets keyed by string, one AtomicLong each and no locks.
+ *
+ * Each bucket is stored as the time at which it would next be full (GCRA): a request
+ * pushes that time forward by one refill interval, and is refused when it would land more
+ * than the burst allowance ahead of now. A bucket whose time has passed is full, which is
+ * the same as having no bucket at all, so the sweep can drop it without losing anything.
+ *
+ * Keys are spread over independent stripes so the sweep and the size cap work on one
+ * small map at a time. A full stripe makes room by evicting the bucket closest to full,
+ * i.e. the one that forgets the least, so a new client is always limited: there is no
+ * fail-open path for a flood of fresh keys (or IPs) to push login and register into.
+ * Kept eager under lazy initialization so sweep() gets scheduled.
+ */
+@Component
+@Lazy(false)
+public class RateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final List<Map<String, AtomicLong>> stripes;
+    private final int maxKeysPerStripe;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public RateLimiter(RateLimitProperties properties) {
+        List<Map<String, AtomicLong>> stripes = new ArrayList<>(STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new ConcurrentHashMap<>());
+        }
+        this.stripes = List.copyOf(stripes);
+        this.maxKeysPerStripe = Math.max(1, properties.maxKeys() / STRIPES);
+    }
+
+    /*
+     * Takes one token from key's bucket. Returns 0 when allowed, otherwise the nanos until
+     * a token is available. intervalNanos is the time to refill one token and burstNanos
+     * how far ahead a bucket may run: interval * (capacity - 1).
+     */
+    long tryAcquire(String key, long intervalNanos, long burstNanos, long nowNanos) {
+        Map<String, AtomicLong> stripe = stripes.get((key.hashCode() & 0x7fffffff) % STRIPES);
+
+        AtomicLong bucket = stripe.get(key);
+        if (bucket == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                sweep(stripe, nowNanos);
+            }
+            if (stripe.size() >= maxKeysPerStripe) {
+                // every tracked bucket is in use; only on this path is the stripe scanned
+                evictClosestToFull(stripe);
+            }
+            AtomicLong fresh = new AtomicLong(nowNanos);
+            bucket = stripe.putIfAbsent(key, fresh);
+            if (bucket == null) {
+                bucket = fresh;
+            }
+        }
+
+        while (true) {
+            long full = bucket.get();
+            long start = Math.max(full, nowNanos);
+            long ahead = start - nowNanos;
+            if (ahead > burstNanos) {
+                rejected.increment();
+                return ahead - burstNanos;
+            }
+            if (bucket.compareAndSet(full, start + intervalNanos)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    // drop buckets that have refilled completely; they carry no state
+    @Scheduled(fixedDelay = 30_000)
+    public void sweep() {
+        long now = System.nanoTime();
+        for (Map<String, AtomicLong> stripe : stripes) {
+            sweep(stripe, now);
+        }
+    }
+
+    private static void sweep(Map<String, AtomicLong> stripe, long nowNanos) {
+        // a request racing with the removal may go uncounted; that only ever errs towards allowing
+        stripe.values().removeIf(b -> b.get() - nowNanos <= 0);
+    }
+
+    private void evictClosestToFull(Map<String, AtomicLong> stripe) {
+        Map.Entry<String, AtomicLong> victim = null;
+        long victimFull = 0;
+        for (Map.Entry<String, AtomicLong> e : stripe.entrySet()) {
+            long full = e.getValue().get();
+            if (victim == null || full - victimFull < 0) {
+                victim = e;
+                victimFull = full;
+            }
+        }
+        if (victim != null && stripe.remove(victim.getKey(), victim.getValue())) {
+            evicted.increment();
+        }
+    }
+
+    public Map<String, Long> stats() {
+        long keys = 0;
+        for (Map<String, AtomicLong> stripe : stripes) {
+            keys += stripe.size();
+        }
+        return Map.of(
+                "keys", keys,
+                "allowed", allowed.sum(),
+                "rejected", rejected.sum(),
+                "evicted", evicted.sum());
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.Interview_Tracker.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -14,9 +18,12 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityConfig {
 
     private final JwtAuthFilter jwtAuthFilter;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -32,6 +39,19 @@ public class SecurityConfig {
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/health").permitAll()
 
+                // actuator is only served on management.server.port, which isn't exposed publicly
+                .requestMatchers("/actuator/**").permitAll()
+
+                // calendar subscriptions authenticate with the token in the URL
+                .requestMatchers(HttpMethod.GET, "/api/calendar/feed/**").permitAll()
+
+                // let error dispatches (e.g. a 503 from PasswordHasher) keep their status
+                .requestMatchers("/error").permitAll()
+
+                // streamed bodies (export, calendar feed) finish on an async dispatch; the
+                // request was authorized on its first dispatch, and the JWT isn't re-read
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // (optional) allow swagger if you use it
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
@@ -39,11 +59,29 @@ public class SecurityConfig {
             )
             .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // after JWT auth so authenticated requests are limited per user rather than per IP
+        if (rateLimitProperties.enabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties), JwtAuthFilter.class);
+        }
+
         return http.build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${app.auth.bcrypt-cost:10}") int bcryptCost) {
+        return new BCryptPasswordEncoder(bcryptCost);
+    }
+
+    // bcrypt is CPU-bound: keep it to a couple of threads with a short queue (see PasswordHasher)
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.auth.hash-workers:1}") int workers,
+            @Value("${app.auth.hash-queue-capacity:32}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        return executor;
     }
 }
\ No newline at end of file
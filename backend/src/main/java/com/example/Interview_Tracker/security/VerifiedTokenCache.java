@@ -0,0 +1,92 @@
+package com.example.Interview_Tracker.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tokens whose signature has already been checked, keyed by SHA-256 of the token so
+ * raw tokens are never retained. Entries die with the token's own expiry; when the
+ * map is full, expired entries are swept first and then arbitrary ones dropped.
+ */
+class VerifiedTokenCache {
+
+    private record Entry(UUID userId, long expiresAtMillis) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    String keyFor(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // null on miss or if the cached token has since expired
+    UUID get(String key, long nowMillis) {
+        Entry e = entries.get(key);
+        if (e == null) {
+            misses.increment();
+            return null;
+        }
+        if (e.expiresAtMillis() <= nowMillis) {
+            entries.remove(key, e);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e.userId();
+    }
+
+    void put(String key, UUID userId, long expiresAtMillis, long nowMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict(nowMillis);
+        }
+        entries.put(key, new Entry(userId, expiresAtMillis));
+    }
+
+    private void evict(long nowMillis) {
+        entries.values().removeIf(e -> e.expiresAtMillis() <= nowMillis);
+
+        // still full: drop ~10% of whatever iteration order gives us
+        int toDrop = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        Iterator<String> it = entries.keySet().iterator();
+        while (toDrop-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
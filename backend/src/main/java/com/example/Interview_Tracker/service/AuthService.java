@@ -4,16 +4,18 @@ import com.example.Interview_Tracker.dto.AuthDtos;
 import com.example.Interview_Tracker.model.User;
 import com.example.Interview_Tracker.repo.UserRepository;
 import com.example.Interview_Tracker.security.JwtService;
+import com.example.Interview_Tracker.security.PasswordHasher;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Observed(name = "auth.service")
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
 
     public AuthDtos.AuthResponse register(AuthDtos.RegisterRequest req) {
@@ -23,7 +25,7 @@ public class AuthService {
 
         User user = User.builder()
                 .email(req.getEmail().toLowerCase())
-                .passwordHash(passwordEncoder.encode(req.getPassword()))
+                .passwordHash(passwordHasher.encode(req.getPassword()))
                 .build();
 
         userRepository.save(user);
@@ -36,10 +38,16 @@ public class AuthService {
         User user = userRepository.findByEmail(req.getEmail().toLowerCase())
                 .orElseThrow(() -> new RuntimeException("Invalid credentials."));
 
-        if (!passwordEncoder.matches(req.getPassword(), user.getPasswordHash())) {
+        if (!passwordHasher.matches(req.getPassword(), user.getPasswordHash())) {
             throw new RuntimeException("Invalid credentials.");
         }
 
+        // bcrypt cost was changed since this hash was made: upgrade it while we have the password
+        if (passwordHasher.needsRehash(user.getPasswordHash())) {
+            user.setPasswordHash(passwordHasher.encode(req.getPassword()));
+            userRepository.save(user);
+        }
+
         String token = jwtService.generateToken(user.getId(), user.getEmail());
         return new AuthDtos.AuthResponse(token);
     }
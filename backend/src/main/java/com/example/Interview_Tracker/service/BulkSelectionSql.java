@@ -0,0 +1,60 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewDtos;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * WHERE clause for a bulk selection, always scoped to the owner so a foreign id simply
+ * matches nothing. An empty selection is refused rather than read as "everything".
+ */
+record BulkSelectionSql(String where, MapSqlParameterSource params) {
+
+    static final int MAX_IDS = 1000;
+
+    static BulkSelectionSql of(UUID userId, InterviewDtos.BulkSelection s) {
+        List<String> clauses = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", userId);
+        clauses.add("user_id = :userId");
+
+        boolean narrowed = false;
+        if (s.getIds() != null && !s.getIds().isEmpty()) {
+            if (s.getIds().size() > MAX_IDS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_IDS + " ids per call.");
+            }
+            clauses.add("id in (:ids)");
+            params.addValue("ids", s.getIds());
+            narrowed = true;
+        }
+        if (s.getStatus() != null && !s.getStatus().isBlank()) {
+            clauses.add("status = :status");
+            params.addValue("status", s.getStatus().trim());
+            narrowed = true;
+        }
+        if (s.getCompany() != null && !s.getCompany().isBlank()) {
+            clauses.add("lower(company) = :company");
+            params.addValue("company", s.getCompany().trim().toLowerCase());
+            narrowed = true;
+        }
+        if (s.getFrom() != null) {
+            clauses.add("interview_date >= :from");
+            params.addValue("from", Timestamp.from(s.getFrom()));
+            narrowed = true;
+        }
+        if (s.getTo() != null) {
+            clauses.add("interview_date < :to");
+            params.addValue("to", Timestamp.from(s.getTo()));
+            narrowed = true;
+        }
+        if (!narrowed) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Select interviews by ids or at least one filter.");
+        }
+        return new BulkSelectionSql(String.join(" and ", clauses), params);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.Interview_Tracker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rendered .ics bodies, LRU-evicted by total size. Entries remember the user's
+ * dataVersion they were rendered at and are dropped when the user's interviews change.
+ */
+@Component
+public class CalendarFeedCache {
+
+    record Key(UUID userId, LocalDate from, LocalDate to) {
+    }
+
+    private record Entry(long version, byte[] body) {
+    }
+
+    private final long maxTotalBytes;
+
+    // guarded by this
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CalendarFeedCache(@Value("${app.calendar.cache-max-bytes:16777216}") long maxTotalBytes) {
+        this.maxTotalBytes = maxTotalBytes;
+    }
+
+    synchronized byte[] get(Key key, long version) {
+        Entry e = entries.get(key);
+        if (e == null || e.version() != version) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return e.body();
+    }
+
+    synchronized void put(Key key, long version, byte[] body) {
+        Entry old = entries.put(key, new Entry(version, body));
+        if (old != null) {
+            totalBytes -= old.body().length;
+        }
+        totalBytes += body.length;
+
+        var it = entries.values().iterator();
+        while (totalBytes > maxTotalBytes && it.hasNext()) {
+            totalBytes -= it.next().body().length;
+            it.remove();
+        }
+    }
+
+    public synchronized void invalidate(UUID userId) {
+        var it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Key, Entry> e = it.next();
+            if (e.getKey().userId().equals(userId)) {
+                totalBytes -= e.getValue().body().length;
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized Map<String, Long> stats() {
+        return Map.of(
+                "hits", hits.sum(),
+                "misses", misses.sum(),
+                "entries", (long) entries.size(),
+                "bytes", totalBytes);
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.model.User;
+import com.example.Interview_Tracker.repo.InterviewRepository;
+import com.example.Interview_Tracker.repo.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Per-user iCalendar subscription feed. Events are written straight to the response as
+ * rows come off a JDBC cursor; feeds small enough to keep are captured on the way out and
+ * served from {@link CalendarFeedCache} until the user's interviews change.
+ */
+@Service
+@RequiredArgsConstructor
+public class CalendarFeedService {
+
+    private static final DateTimeFormatter ICS_TIME =
+            DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final UserRepository userRepository;
+    private final InterviewRepository interviewRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final CalendarFeedCache feedCache;
+
+    @Value("${app.calendar.past-days:30}")
+    private int pastDays;
+
+    @Value("${app.calendar.future-days:365}")
+    private int futureDays;
+
+    // feeds bigger than this are streamed every time rather than cached
+    @Value("${app.calendar.max-cached-feed-bytes:262144}")
+    private int maxCachedFeedBytes;
+
+    public record Feed(UUID userId, long version, LocalDate from, LocalDate to) {
+
+        public String etag() {
+            return "\"" + version + "-" + from + "-" + to + "\"";
+        }
+    }
+
+    // issues (or rotates) the user's feed token; the old subscription URL stops working
+    @Transactional
+    public String rotateToken(UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found."));
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        user.setCalendarToken(token);
+        return token;
+    }
+
+    // cheap: one user lookup, enough to answer If-None-Match
+    @Transactional(readOnly = true)
+    public Optional<Feed> open(String token, LocalDate from, LocalDate to) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : today.minusDays(pastDays);
+        LocalDate end = to != null ? to : today.plusDays(futureDays);
+
+        return userRepository.findByCalendarToken(token)
+                .map(u -> new Feed(u.getId(), u.getDataVersion(), start, end));
+    }
+
+    public void write(Feed feed, OutputStream out) throws IOException {
+        CalendarFeedCache.Key key = new CalendarFeedCache.Key(feed.userId(), feed.from(), feed.to());
+
+        byte[] cached = feedCache.get(key, feed.version());
+        if (cached != null) {
+            out.write(cached);
+            return;
+        }
+
+        Capture capture = new Capture(out, maxCachedFeedBytes);
+        Writer w = new OutputStreamWriter(capture, StandardCharsets.UTF_8);
+
+        line(w, "BEGIN:VCALENDAR");
+        line(w, "VERSION:2.0");
+        line(w, "PRODID:-//Interview Tracker//Interviews//EN");
+        line(w, "CALSCALE:GREGORIAN");
+        line(w, "X-WR-CALNAME:Interviews");
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.executeWithoutResult(status -> {
+            try (Stream<Interview> rows = interviewRepository.streamForFeed(
+                    feed.userId(),
+                    feed.from().atStartOfDay(ZoneOffset.UTC).toInstant(),
+                    feed.to().atStartOfDay(ZoneOffset.UTC).toInstant())) {
+                rows.forEach(i -> {
+                    try {
+                        event(w, i);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    // keep the persistence context from growing with the feed
+                    entityManager.detach(i);
+                });
+            }
+        });
+
+        line(w, "END:VCALENDAR");
+        w.flush();
+
+        if (capture.captured != null) {
+            feedCache.put(key, feed.version(), capture.captured.toByteArray());
+        }
+    }
+
+    private void event(Writer w, Interview i) throws IOException {
+        Instant start = i.getInterviewDate();
+        line(w, "BEGIN:VEVENT");
+        line(w, "UID:" + i.getId() + "@interview-tracker");
+        line(w, "DTSTAMP:" + ICS_TIME.format(i.getUpdatedAt() != null ? i.getUpdatedAt() : start));
+        line(w, "DTSTART:" + ICS_TIME.format(start));
+        // same 60 minute default the frontend calendar uses
+        line(w, "DTEND:" + ICS_TIME.format(start.plusSeconds(3600)));
+        line(w, "SUMMARY:" + escape(i.getCompany() + " — " + i.getRole()));
+
+        StringBuilder desc = new StringBuilder();
+        if (i.getStatus() != null) {
+            desc.append("Status: ").append(i.getStatus());
+        }
+        if (i.getNotes() != null && !i.getNotes().isBlank()) {
+            desc.append(desc.length() > 0 ? "\n\n" : "").append(i.getNotes());
+        }
+        if (desc.length() > 0) {
+            line(w, "DESCRIPTION:" + escape(desc.toString()));
+        }
+        line(w, "END:VEVENT");
+    }
+
+    // RFC 5545 text escaping
+    private static String escape(String s) {
+        return s.replace("\\", "\\\\")
+                .replace(";", "\\;")
+                .replace(",", "\\,")
+                .replace("\r\n", "\\n")
+                .replace("\n", "\\n");
+    }
+
+    // CRLF line endings, folded at 75 octets
+    private static void line(Writer w, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length <= 75) {
+            w.write(content);
+            w.write("\r\n");
+            return;
+        }
+        int octets = 0;
+        int limit = 75;
+        for (int i = 0; i < content.length(); ) {
+            int cp = content.codePointAt(i);
+            int len = cp < 0x80 ? 1 : cp < 0x800 ? 2 : cp < 0x10000 ? 3 : 4;
+            if (octets + len > limit) {
+                w.write("\r\n ");
+                octets = 0;
+                limit = 74; // continuation lines start with a space
+            }
+            w.write(Character.toChars(cp));
+            octets += len;
+            i += Character.charCount(cp);
+        }
+        w.write("\r\n");
+    }
+
+    // passes bytes through and keeps a copy until it grows past the cache limit
+    private static final class Capture extends OutputStream {
+        private final OutputStream out;
+        private final int limit;
+        private ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+        Capture(OutputStream out, int limit) {
+            this.out = out;
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            keep(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            keep(b, off, len);
+        }
+
+        private void keep(byte[] b, int off, int len) {
+            if (captured == null) {
+                return;
+            }
+            if (captured.size() + len > limit) {
+                captured = null;
+                return;
+            }
+            captured.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewImportRowDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streaming RFC 4180 reader. The first record is the header; columns are matched
+ * by name (company, role, interviewDate, status, notes), case and punctuation insensitive.
+ */
+class CsvImportRowReader implements ImportRowReader {
+
+    private final Reader in;
+    private final char[] buf = new char[8192];
+    private int pos;
+    private int len;
+    private int pushback = -1;
+    private boolean tooLong;
+
+    private int company = -1;
+    private int role = -1;
+    private int interviewDate = -1;
+    private int status = -1;
+    private int notes = -1;
+
+    private long rowNumber;
+
+    CsvImportRowReader(InputStream in) throws IOException {
+        this.in = new InputStreamReader(in, StandardCharsets.UTF_8);
+
+        List<String> header = readRecord();
+        if (header == null) {
+            return;
+        }
+        for (int i = 0; i < header.size(); i++) {
+            switch (normalizeHeader(header.get(i))) {
+                case "company" -> company = i;
+                case "role" -> role = i;
+                case "interviewdate" -> interviewDate = i;
+                case "status" -> status = i;
+                case "notes" -> notes = i;
+                default -> { }
+            }
+        }
+    }
+
+    @Override
+    public Row next() throws IOException {
+        while (true) {
+            List<String> fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+            // skip blank lines
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+
+            rowNumber++;
+            if (tooLong) {
+                return Row.rejected(rowNumber, "Row exceeds " + MAX_RECORD_CHARS + " characters.");
+            }
+
+            InterviewImportRowDto dto = new InterviewImportRowDto();
+            dto.setCompany(field(fields, company));
+            dto.setRole(field(fields, role));
+            dto.setInterviewDate(field(fields, interviewDate));
+            dto.setStatus(field(fields, status));
+            dto.setNotes(field(fields, notes));
+            return Row.ok(rowNumber, dto);
+        }
+    }
+
+    private static String field(List<String> fields, int index) {
+        if (index < 0 || index >= fields.size()) {
+            return null;
+        }
+        String f = fields.get(index);
+        // undo the quote the CSV export puts in front of formula-like cells
+        if (f.length() > 1 && f.charAt(0) == '\'' && InterviewExportService.isFormula(f.substring(1))) {
+            return f.substring(1);
+        }
+        return f;
+    }
+
+    private static String normalizeHeader(String h) {
+        return h.toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z]", "");
+    }
+
+    private int read() throws IOException {
+        if (pushback != -1) {
+            int c = pushback;
+            pushback = -1;
+            return c;
+        }
+        if (pos == len) {
+            len = in.read(buf, 0, buf.length);
+            pos = 0;
+            if (len <= 0) {
+                len = 0;
+                return -1;
+            }
+        }
+        return buf[pos++];
+    }
+
+    // one record, or null at end of input
+    private List<String> readRecord() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int chars = 0;
+        tooLong = false;
+
+        while (c != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    int n = read();
+                    if (n != '"') {
+                        quoted = false;
+                        c = n;
+                        continue;
+                    }
+                }
+                append(field, ch, ++chars);
+            } else if (ch == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n' || ch == '\r') {
+                if (ch == '\r') {
+                    int n = read();
+                    if (n != '\n' && n != -1) {
+                        pushback = n;
+                    }
+                }
+                break;
+            } else {
+                append(field, ch, ++chars);
+            }
+            c = read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void append(StringBuilder field, char ch, int chars) {
+        if (chars > MAX_RECORD_CHARS) {
+            tooLong = true;
+            return;
+        }
+        field.append(ch);
+    }
+}
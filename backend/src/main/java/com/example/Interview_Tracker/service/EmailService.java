@@ -1,26 +1,85 @@
 package com.example.Interview_Tracker.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
 
     @Value("${app.mail.from}")
     private String fromEmail;
 
+    public record Outgoing(String to, String subject, String body) {
+    }
+
     public void sendInterviewReminder(String to, String subject, String body) {
-        SimpleMailMessage msg = new SimpleMailMessage();
-        msg.setFrom(fromEmail);
-        msg.setTo(to);
-        msg.setSubject(subject);
-        msg.setText(body);
-        mailSender.send(msg);
+        Map<Integer, Exception> failed = sendAll(List.of(new Outgoing(to, subject, body)));
+        if (!failed.isEmpty()) {
+            Exception e = failed.get(0);
+            throw e instanceof RuntimeException re ? re : new MailSendException(e.getMessage(), e);
+        }
+    }
+
+    /*
+     * Sends the whole batch over one SMTP connection: one connect, STARTTLS and AUTH, then
+     * a MAIL/RCPT/DATA per message. Returns the failures by index into `messages`; a
+     * connect or auth failure fails every message.
+     */
+    public Map<Integer, Exception> sendAll(List<Outgoing> messages) {
+        SimpleMailMessage[] msgs = new SimpleMailMessage[messages.size()];
+        Map<Object, Integer> index = new IdentityHashMap<>();
+        for (int i = 0; i < msgs.length; i++) {
+            Outgoing m = messages.get(i);
+            SimpleMailMessage msg = new SimpleMailMessage();
+            msg.setFrom(fromEmail);
+            msg.setTo(m.to());
+            msg.setSubject(m.subject());
+            msg.setText(m.body());
+            msgs[i] = msg;
+            index.put(msg, i);
+        }
+
+        // mail.send{outcome,exception}: latency of one SMTP session, failures by cause
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Map<Integer, Exception> failed = new HashMap<>();
+        String exception = "none";
+        try {
+            mailSender.send(msgs);
+        } catch (MailSendException e) {
+            exception = e.getClass().getSimpleName();
+            if (e.getFailedMessages().isEmpty()) {
+                // failed before any message went out (connect, STARTTLS)
+                for (int i = 0; i < msgs.length; i++) {
+                    failed.put(i, e);
+                }
+            }
+            e.getFailedMessages().forEach((msg, ex) -> failed.put(index.get(msg), ex));
+        } catch (RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            for (int i = 0; i < msgs.length; i++) {
+                failed.put(i, e);
+            }
+        } finally {
+            String outcome = failed.isEmpty() ? "success" : failed.size() < msgs.length ? "partial" : "failure";
+            sample.stop(meterRegistry.timer("mail.send", "outcome", outcome, "exception", exception));
+            meterRegistry.counter("mail.messages", "outcome", "sent").increment(msgs.length - failed.size());
+            meterRegistry.counter("mail.messages", "outcome", "failed").increment(failed.size());
+        }
+        return failed;
     }
-}
\ No newline at end of file
+}
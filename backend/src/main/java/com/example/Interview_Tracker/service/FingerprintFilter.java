@@ -0,0 +1,63 @@
+package com.example.Interview_Tracker.service;
+
+/**
+ * Bloom filter over one user's import fingerprints. A miss means the fingerprint is
+ * certainly new, so most rows of a first import never need a DB lookup; a hit only means
+ * "maybe", and is confirmed against the table.
+ *
+ * Not thread-safe: it is only touched while the user's row lock is held (see
+ * ImportFingerprintIndex).
+ */
+final class FingerprintFilter {
+
+    // ~1% false positives at capacity
+    private static final int BITS_PER_ENTRY = 10;
+    private static final int HASHES = 7;
+
+    private final long[] words;
+    private final long bits;
+    private final int capacity;
+    private int size;
+
+    FingerprintFilter(int capacity) {
+        this.capacity = capacity;
+        this.bits = (long) capacity * BITS_PER_ENTRY;
+        this.words = new long[(int) ((bits + 63) / 64)];
+    }
+
+    void add(String fingerprint) {
+        long h1 = h1(fingerprint);
+        long h2 = h2(fingerprint);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        size++;
+    }
+
+    boolean mightContain(String fingerprint) {
+        long h1 = h1(fingerprint);
+        long h2 = h2(fingerprint);
+        for (int i = 0; i < HASHES; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // past capacity the false-positive rate climbs; the index rebuilds a bigger one
+    boolean full() {
+        return size > capacity;
+    }
+
+    // the fingerprint is already a uniform hash, so its two halves serve as the double-hashing pair
+    private static long h1(String fingerprint) {
+        return Long.parseUnsignedLong(fingerprint, 0, 16, 16);
+    }
+
+    private static long h2(String fingerprint) {
+        return Long.parseUnsignedLong(fingerprint, 16, 32, 16) | 1;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.Interview_Tracker.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Identity of an imported row: the same company, role and interview time (to the second),
+ * ignoring case and surrounding whitespace. Status and notes are not part of it, so a
+ * re-import with an updated status is recognised as the same interview.
+ *
+ * Must stay in step with the backfill in V5__import_fingerprint.sql.
+ */
+final class ImportFingerprint {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private ImportFingerprint() {
+    }
+
+    // first 128 bits of SHA-256, as 32 hex chars
+    static String of(String company, String role, Instant interviewDate) {
+        String key = normalize(company) + '\u001f' + normalize(role) + '\u001f' + interviewDate.getEpochSecond();
+        byte[] digest = sha256().digest(key.getBytes(StandardCharsets.UTF_8));
+        return HEX.formatHex(digest, 0, 16);
+    }
+
+    private static String normalize(String s) {
+        return s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.Interview_Tracker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-user {@link FingerprintFilter}s, kept between import batches.
+ *
+ * A filter is tagged with the user's dataVersion as of the import that last committed
+ * through it. It is reused only when nothing else has written in between (the version is
+ * exactly one behind the caller's seq); otherwise, e.g. after an import on another
+ * instance, it is rebuilt from the table. Fingerprints that were added and then rolled back
+ * or deleted only cost a false positive, which the DB check catches.
+ */
+@Component
+public class ImportFingerprintIndex {
+
+    private record Entry(FingerprintFilter filter, long version) {
+    }
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxUsers;
+
+    // guarded by this
+    private final Map<UUID, Entry> filters;
+
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+
+    public ImportFingerprintIndex(JdbcTemplate jdbcTemplate,
+                                  @Value("${app.import.fingerprint-filter.max-users:1000}") int maxUsers) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxUsers = maxUsers;
+        this.filters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > ImportFingerprintIndex.this.maxUsers;
+            }
+        };
+    }
+
+    /*
+     * Call inside the import transaction, after changed() has returned seq (so the user row
+     * lock is held and no other import for this user can run). Fingerprints the caller
+     * inserts must be added to the returned filter; it is kept for the next batch on commit.
+     */
+    FingerprintFilter acquire(UUID userId, long seq) {
+        Entry e;
+        synchronized (this) {
+            e = filters.get(userId);
+        }
+
+        FingerprintFilter filter;
+        if (e != null && e.version() == seq - 1 && !e.filter().full()) {
+            filter = e.filter();
+            reuses.increment();
+        } else {
+            filter = load(userId);
+            rebuilds.increment();
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                synchronized (ImportFingerprintIndex.this) {
+                    filters.put(userId, new Entry(filter, seq));
+                }
+            }
+        });
+        return filter;
+    }
+
+    // sized with headroom for the import that is about to run
+    private FingerprintFilter load(UUID userId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from interviews where user_id = ? and import_fingerprint is not null",
+                Integer.class, userId);
+        FingerprintFilter filter = new FingerprintFilter(Math.max(MIN_CAPACITY, (count == null ? 0 : count) * 2));
+        jdbcTemplate.query(
+                "select import_fingerprint from interviews where user_id = ? and import_fingerprint is not null",
+                rs -> {
+                    filter.add(rs.getString(1));
+                },
+                userId);
+        return filter;
+    }
+
+    public Map<String, Long> stats() {
+        long users;
+        synchronized (this) {
+            users = filters.size();
+        }
+        return Map.of(
+                "reuses", reuses.sum(),
+                "rebuilds", rebuilds.sum(),
+                "users", users);
+    }
+}
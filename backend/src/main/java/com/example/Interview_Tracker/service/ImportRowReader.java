@@ -0,0 +1,32 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewImportRowDto;
+
+import java.io.IOException;
+
+/**
+ * Pulls import rows one at a time from an upload stream, so nothing but the
+ * current row is held in memory.
+ */
+interface ImportRowReader {
+
+    // longest record a reader buffers; past it the rest is skipped and the row rejected, so a
+    // stray quote or a missing newline can't pull the rest of the file into one string
+    int MAX_RECORD_CHARS = 64 * 1024;
+
+    /**
+     * @return the next row (possibly carrying a parse error), or null at end of input
+     */
+    Row next() throws IOException;
+
+    record Row(long number, InterviewImportRowDto data, String error) {
+
+        static Row ok(long number, InterviewImportRowDto data) {
+            return new Row(number, data, null);
+        }
+
+        static Row rejected(long number, String error) {
+            return new Row(number, null, error);
+        }
+    }
+}
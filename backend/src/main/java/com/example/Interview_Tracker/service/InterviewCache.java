@@ -0,0 +1,172 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewDtos;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache of list pages and single interviews, grouped per user.
+ *
+ * Users are LRU-evicted as a whole; within a user, pages and items each have their own
+ * LRU cap, and every entry has a TTL. Entries are tagged with the user's dataVersion the
+ * caller read before loading them, and only serve callers at that version or older. So a
+ * reader that has already seen a write's new version never gets a page from before it,
+ * even while the write's after-commit invalidation is still on its way. That invalidation
+ * drops the user's pages plus the one interview the write touched, to free them early.
+ */
+@Component
+public class InterviewCache {
+
+    private record Entry<V>(V value, long dataVersion, long expiresAtMillis) {
+    }
+
+    private final class Bucket {
+        long version;
+        final Map<String, Entry<InterviewDtos.InterviewPage>> pages = new LruMap<>(maxPagesPerUser, evictions);
+        final Map<UUID, Entry<InterviewDtos.InterviewResponse>> items = new LruMap<>(maxItemsPerUser, evictions);
+    }
+
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+        private final transient LongAdder evictions;
+
+        LruMap(int maxSize, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > maxSize) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private final int maxPagesPerUser;
+    private final int maxItemsPerUser;
+    private final long ttlMillis;
+
+    // guarded by this
+    private final Map<UUID, Bucket> buckets;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public InterviewCache(@Value("${app.cache.interviews.max-users:10000}") int maxUsers,
+                          @Value("${app.cache.interviews.max-pages-per-user:16}") int maxPagesPerUser,
+                          @Value("${app.cache.interviews.max-items-per-user:256}") int maxItemsPerUser,
+                          @Value("${app.cache.interviews.ttl-seconds:300}") long ttlSeconds) {
+        this.maxPagesPerUser = maxPagesPerUser;
+        this.maxItemsPerUser = maxItemsPerUser;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.buckets = new LruMap<>(maxUsers, evictions);
+    }
+
+    // dataVersion: the user's version as read before calling; loader must read after that
+    public InterviewDtos.InterviewPage page(UUID userId, long dataVersion, String queryKey,
+                                            Supplier<InterviewDtos.InterviewPage> loader) {
+        return readThrough(userId, dataVersion, b -> b.pages, queryKey, loader);
+    }
+
+    public InterviewDtos.InterviewResponse item(UUID userId, long dataVersion, UUID interviewId,
+                                                Supplier<InterviewDtos.InterviewResponse> loader) {
+        return readThrough(userId, dataVersion, b -> b.items, interviewId, loader);
+    }
+
+    // call after the write has committed; interviewId may be null (create/import)
+    public void invalidate(UUID userId, UUID interviewId) {
+        Bucket b;
+        synchronized (this) {
+            b = buckets.get(userId);
+        }
+        if (b == null) {
+            return;
+        }
+        synchronized (b) {
+            b.version++;
+            b.pages.clear();
+            if (interviewId != null) {
+                b.items.remove(interviewId);
+            }
+        }
+        invalidations.increment();
+    }
+
+    // bulk writes: every cached item of the user may be stale
+    public void invalidateUser(UUID userId) {
+        Bucket b;
+        synchronized (this) {
+            b = buckets.get(userId);
+        }
+        if (b == null) {
+            return;
+        }
+        synchronized (b) {
+            b.version++;
+            b.pages.clear();
+            b.items.clear();
+        }
+        invalidations.increment();
+    }
+
+    private <K, V> V readThrough(UUID userId,
+                                 long dataVersion,
+                                 Function<Bucket, Map<K, Entry<V>>> section,
+                                 K key,
+                                 Supplier<V> loader) {
+        Bucket b;
+        synchronized (this) {
+            b = buckets.computeIfAbsent(userId, id -> new Bucket());
+        }
+
+        long now = System.currentTimeMillis();
+        long version;
+        synchronized (b) {
+            Entry<V> e = section.apply(b).get(key);
+            // loaded at an older version: the caller has already seen a newer write
+            if (e != null && e.expiresAtMillis() > now && e.dataVersion() >= dataVersion) {
+                hits.increment();
+                return e.value();
+            }
+            version = b.version;
+        }
+
+        misses.increment();
+        V value = loader.get();
+
+        synchronized (b) {
+            if (b.version == version) {
+                section.apply(b).put(key, new Entry<>(value, dataVersion, now + ttlMillis));
+            }
+        }
+        return value;
+    }
+
+    public Map<String, Long> stats() {
+        long users;
+        synchronized (this) {
+            users = buckets.size();
+        }
+        return Map.of(
+                "hits", hits.sum(),
+                "misses", misses.sum(),
+                "evictions", evictions.sum(),
+                "invalidations", invalidations.sum(),
+                "users", users);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.ExportFormat;
+import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.repo.InterviewRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams a user's interviews out as CSV or NDJSON, in keyset batches. Each batch is read
+ * in its own short transaction and written after it commits, so a slow download never
+ * holds a DB connection, and heap stays flat however many rows there are. Rows edited
+ * while an export is running may show either version.
+ * Columns match what the import endpoints accept, so an export can be re-imported.
+ */
+@Service
+@RequiredArgsConstructor
+public class InterviewExportService {
+
+    // rows per query; also how often bytes are pushed to the client
+    private static final int BATCH_SIZE = 500;
+
+    private final InterviewRepository interviewRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public void export(UUID userId, ExportFormat format, OutputStream out) throws IOException {
+        RowWriter writer = format == ExportFormat.NDJSON ? new NdjsonWriter(out) : new CsvWriter(out);
+        writer.begin();
+        out.flush();
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        List<Interview> batch = tx.execute(status ->
+                interviewRepository.findExportBatch(userId, Limit.of(BATCH_SIZE)));
+        while (!batch.isEmpty()) {
+            for (Interview i : batch) {
+                writer.row(i);
+            }
+            writer.flush();
+            if (batch.size() < BATCH_SIZE) {
+                break;
+            }
+            Interview last = batch.get(batch.size() - 1);
+            batch = tx.execute(status -> interviewRepository.findExportBatchAfter(
+                    userId, last.getInterviewDate(), last.getId(), Limit.of(BATCH_SIZE)));
+        }
+        writer.flush();
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void row(Interview i) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class CsvWriter implements RowWriter {
+        private final Writer w;
+
+        CsvWriter(OutputStream out) {
+            this.w = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void begin() throws IOException {
+            w.write("id,company,role,interviewDate,status,notes\r\n");
+            w.flush();
+        }
+
+        @Override
+        public void row(Interview i) throws IOException {
+            w.write(i.getId().toString());
+            w.write(',');
+            field(i.getCompany());
+            w.write(',');
+            field(i.getRole());
+            w.write(',');
+            w.write(i.getInterviewDate().toString());
+            w.write(',');
+            field(i.getStatus());
+            w.write(',');
+            field(i.getNotes());
+            w.write("\r\n");
+        }
+
+        // RFC 4180: quote when needed, double embedded quotes
+        private void field(String s) throws IOException {
+            if (s == null) {
+                return;
+            }
+            if (isFormula(s)) {
+                // a spreadsheet would evaluate it; the quote makes it text (CsvImportRowReader drops it)
+                s = "'" + s;
+            }
+            if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+                w.write(s);
+                return;
+            }
+            w.write('"');
+            w.write(s.replace("\"", "\"\""));
+            w.write('"');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            w.flush();
+        }
+    }
+
+    // cells spreadsheets treat as formulas (OWASP CSV injection); tab and CR lead some too
+    static boolean isFormula(String s) {
+        if (s.isEmpty()) {
+            return false;
+        }
+        char c = s.charAt(0);
+        return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+    }
+
+    private final class NdjsonWriter implements RowWriter {
+        private final OutputStream out;
+        private final JsonGenerator g;
+
+        NdjsonWriter(OutputStream out) throws IOException {
+            this.out = out;
+            this.g = objectMapper.getFactory().createGenerator(out);
+            // keep the generator from closing the servlet stream
+            this.g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void row(Interview i) throws IOException {
+            g.writeStartObject();
+            g.writeStringField("id", i.getId().toString());
+            g.writeStringField("company", i.getCompany());
+            g.writeStringField("role", i.getRole());
+            g.writeStringField("interviewDate", i.getInterviewDate().toString());
+            g.writeStringField("status", i.getStatus());
+            g.writeStringField("notes", i.getNotes());
+            g.writeEndObject();
+            g.flush();
+            out.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            g.flush();
+            out.flush();
+        }
+    }
+}
@@ -1,29 +1,91 @@
 package com.example.Interview_Tracker.service;
 
+import com.example.Interview_Tracker.config.ReadYourWrites;
+import com.example.Interview_Tracker.dto.DuplicatePolicy;
+import com.example.Interview_Tracker.dto.ImportFormat;
 import com.example.Interview_Tracker.dto.InterviewDtos;
 import com.example.Interview_Tracker.dto.InterviewImportRowDto;
 import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.model.InterviewTombstone;
 import com.example.Interview_Tracker.model.User;
 import com.example.Interview_Tracker.repo.InterviewRepository;
+import com.example.Interview_Tracker.repo.InterviewSpecs;
+import com.example.Interview_Tracker.repo.InterviewTombstoneRepository;
 import com.example.Interview_Tracker.repo.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
+// every public method becomes an interview.service timer tagged with class/method
+@Observed(name = "interview.service")
 public class InterviewService {
 
+    // rows per import transaction and per multi-row insert (12 bind parameters a row)
+    private static final int IMPORT_BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_REJECTS = 100;
+
+    private static final int DEFAULT_CHANGES_LIMIT = 500;
+    private static final int MAX_CHANGES_LIMIT = 2000;
+
     private final InterviewRepository interviewRepository;
+    private final InterviewTombstoneRepository tombstoneRepository;
     private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final InterviewCache interviewCache;
+    private final CalendarFeedCache calendarFeedCache;
+    private final InterviewStatsService statsService;
+    private final ReadYourWrites readYourWrites;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final ImportFingerprintIndex fingerprintIndex;
+    private final ReminderTimer reminderTimer;
+
+    @Value("${app.sync.tombstone-retention-days:30}")
+    private int tombstoneRetentionDays;
 
+    @Transactional
     public InterviewDtos.InterviewResponse create(UUID userId, InterviewDtos.CreateInterviewRequest req) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found."));
+        long seq = changed(userId, null);
 
         Interview interview = Interview.builder()
                 .user(user)
@@ -32,46 +94,412 @@ public class InterviewService {
                 .interviewDate(req.getInterviewDate())
                 .status(req.getStatus() == null ? "Scheduled" : req.getStatus())
                 .notes(req.getNotes())
+                .reminderOffsetMinutes(req.getReminderOffsetMinutes() == null
+                        ? Interview.DEFAULT_REMINDER_OFFSET_MINUTES
+                        : req.getReminderOffsetMinutes())
+                .changeSeq(seq)
                 .build();
 
         Interview saved = interviewRepository.save(interview);
+        scheduleReminderOnCommit(saved);
+
+        InterviewStatsService.Delta delta = new InterviewStatsService.Delta();
+        delta.add(saved);
+        statsService.apply(userId, delta);
         return toResponse(saved);
     }
 
-    public List<InterviewDtos.InterviewResponse> list(UUID userId) {
-        return interviewRepository.findAllByUserIdOrderByInterviewDateDesc(userId)
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private static final Sort LIST_ORDER =
+            Sort.by(Sort.Order.desc("interviewDate"), Sort.Order.desc("id"));
+
+    /*
+     * ETags come from the user's dataVersion alone, so a matching If-None-Match is answered
+     * from one primary-key lookup. The version must be read before the body is loaded and
+     * passed to list/get, which never return a body older than it: the body may be newer
+     * than its tag, which only costs the client one extra download, but never the reverse.
+     */
+    @Transactional(readOnly = true)
+    public long currentVersion(UUID userId) {
+        return dataVersion(userId);
+    }
+
+    public static String listEtag(long dataVersion, InterviewDtos.ListQuery query) {
+        return "\"" + dataVersion + "-" + Integer.toHexString(queryKey(query).hashCode()) + "\"";
+    }
+
+    public static String itemEtag(long dataVersion, UUID interviewId) {
+        return "\"" + dataVersion + "-" + interviewId + "\"";
+    }
+
+    // read-only methods may be served by the replica (see DataSourceRoutingConfig)
+    @Transactional(readOnly = true)
+    public InterviewDtos.InterviewPage list(UUID userId, InterviewDtos.ListQuery query, long dataVersion) {
+        return interviewCache.page(userId, dataVersion, queryKey(query), () -> loadPage(userId, query));
+    }
+
+    private long dataVersion(UUID userId) {
+        return userRepository.findDataVersion(userId)
+                .orElseThrow(() -> new RuntimeException("User not found."));
+    }
+
+    /*
+     * Call at the start of every write transaction on a user's interviews, before touching
+     * any rows. The bump row-locks the user until commit, so one user's writes commit in
+     * seq order and /changes can never skip past one that is still in flight. Returns the
+     * new seq to stamp on the rows being written.
+     */
+    private long changed(UUID userId, UUID interviewId) {
+        userRepository.bumpDataVersion(userId);
+        long seq = dataVersion(userId);
+
+        // the cache must not be refilled from pre-commit data
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                interviewCache.invalidate(userId, interviewId);
+                calendarFeedCache.invalidate(userId);
+            }
+        });
+        // this user's next reads go to the primary until the replica has caught up
+        readYourWrites.wroteOnCommit(userId);
+        return seq;
+    }
+
+    private static String queryKey(InterviewDtos.ListQuery query) {
+        return query.getCursor() + "|" + query.getLimit() + "|" + query.getStatus() + "|"
+                + query.getCompany() + "|" + query.getFrom() + "|" + query.getTo();
+    }
+
+    // keyset pagination on (interviewDate desc, id desc); backed by idx_interviews_user_date_id
+    private InterviewDtos.InterviewPage loadPage(UUID userId, InterviewDtos.ListQuery query) {
+        int limit = query.getLimit() == null
+                ? DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(query.getLimit(), MAX_PAGE_SIZE));
+
+        Specification<Interview> spec = InterviewSpecs.ownedBy(userId);
+        if (!isBlank(query.getStatus())) {
+            spec = spec.and(InterviewSpecs.hasStatus(query.getStatus().trim()));
+        }
+        if (!isBlank(query.getCompany())) {
+            spec = spec.and(InterviewSpecs.companyIs(query.getCompany().trim()));
+        }
+        if (query.getFrom() != null) {
+            spec = spec.and(InterviewSpecs.dateFrom(query.getFrom()));
+        }
+        if (query.getTo() != null) {
+            spec = spec.and(InterviewSpecs.dateBefore(query.getTo()));
+        }
+        if (!isBlank(query.getCursor())) {
+            InterviewCursor c = InterviewCursor.decode(query.getCursor().trim());
+            spec = spec.and(InterviewSpecs.after(c.interviewDate(), c.id()));
+        }
+
+        // fetch one extra row to know whether another page exists
+        List<Interview> rows = interviewRepository.findBy(spec, q -> q
+                .sortBy(LIST_ORDER)
+                .limit(limit + 1)
+                .all());
+
+        boolean hasMore = rows.size() > limit;
+        List<Interview> pageRows = hasMore ? rows.subList(0, limit) : rows;
+
+        InterviewDtos.InterviewPage page = new InterviewDtos.InterviewPage();
+        page.setItems(pageRows.stream().map(InterviewService::toResponse).toList());
+        if (hasMore) {
+            Interview last = pageRows.get(pageRows.size() - 1);
+            page.setNextCursor(new InterviewCursor(last.getInterviewDate(), last.getId()).encode());
+        }
+        return page;
+    }
+
+    /**
+     * Delta sync. Without {@code since} this only hands out a starting token: take it, load
+     * the full list, then poll with it. After that each call returns rows written and ids
+     * deleted since the token, in seq order, plus the token to use next.
+     *
+     * Runs as one repeatable-read snapshot so the version bound, the rows and the
+     * tombstones all agree.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public InterviewDtos.ChangesResponse changes(UUID userId, String since, Integer limit) {
+        long now = System.currentTimeMillis();
+        long upTo = dataVersion(userId);
+        InterviewDtos.ChangesResponse res = new InterviewDtos.ChangesResponse();
+
+        if (isBlank(since)) {
+            res.setNext(new SyncToken(upTo, null, now).encode());
+            return res;
+        }
+
+        SyncToken token = SyncToken.decode(since.trim());
+        // tombstones this token still needs may have been pruned
+        if (now - token.issuedAtMillis() > Duration.ofDays(tombstoneRetentionDays).toMillis()) {
+            res.setReset(true);
+            res.setNext(new SyncToken(upTo, null, now).encode());
+            return res;
+        }
+
+        int max = limit == null
+                ? DEFAULT_CHANGES_LIMIT
+                : Math.max(1, Math.min(limit, MAX_CHANGES_LIMIT));
+        UUID afterId = token.afterId() == null ? SyncToken.LAST : token.afterId();
+
+        List<Interview> rows = interviewRepository.findChanged(
+                userId, token.seq(), afterId, upTo, Limit.of(max + 1));
+
+        boolean hasMore = rows.size() > max;
+        List<Interview> page = hasMore ? rows.subList(0, max) : rows;
+
+        SyncToken next = new SyncToken(upTo, null, now);
+        if (hasMore) {
+            // a page can stop inside one seq (an import batch); remember the last id too
+            Interview last = page.get(page.size() - 1);
+            next = new SyncToken(last.getChangeSeq(), last.getId(), now);
+        }
+
+        res.setUpserts(page.stream().map(InterviewService::toResponse).toList());
+        res.setDeletes(tombstoneRepository.findDeletedIds(userId, token.seq(), next.seq()));
+        res.setHasMore(hasMore);
+        res.setNext(next.encode());
+        return res;
+    }
+
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    private static final int MAX_SEARCH_LIMIT = 100;
+
+    // every word of q must match, the last one (and any ending in *) as a prefix
+    @Transactional(readOnly = true)
+    public List<InterviewDtos.InterviewResponse> search(UUID userId, String q, Integer limit) {
+        String tsQuery = toTsQuery(q);
+        if (tsQuery.isEmpty()) {
+            return List.of();
+        }
+        int max = limit == null
+                ? DEFAULT_SEARCH_LIMIT
+                : Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+
+        return interviewRepository.search(userId, tsQuery, max)
                 .stream()
-                .map(this::toResponse)
+                .map(InterviewService::toResponse)
                 .toList();
     }
 
-    public InterviewDtos.InterviewResponse get(UUID userId, UUID interviewId) {
-        Interview interview = interviewRepository.findByIdAndUserId(interviewId, userId)
-                .orElseThrow(() -> new RuntimeException("Interview not found."));
-        return toResponse(interview);
+    // user text -> safe to_tsquery input, e.g. "goog soft*" -> "goog & soft:*".
+    // Words are split on non-word characters the way the tsvector parser splits them, so
+    // "e-commerce" -> "e & commerce:*". The parser also keeps some joined forms as one token
+    // ("node.js", "e-commerce"), so a split word may match its joined form instead.
+    static String toTsQuery(String q) {
+        if (q == null) {
+            return "";
+        }
+        String[] words = q.trim().split("\\s+");
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            String suffix = i == words.length - 1 || words[i].endsWith("*") ? ":*" : "";
+            List<String> parts = new ArrayList<>();
+            for (String part : words[i].toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+                if (!part.isEmpty()) {
+                    parts.add(part);
+                }
+            }
+            if (parts.isEmpty()) {
+                continue;
+            }
+            String split = String.join(" & ", parts) + suffix;
+            if (parts.size() == 1) {
+                terms.add(split);
+            } else {
+                // only word characters and the separators the parser joins on; safe to quote
+                String joined = words[i].toLowerCase()
+                        .replaceAll("[^\\p{L}\\p{N}._-]", "")
+                        .replaceAll("^[._-]+|[._-]+$", "");
+                terms.add("('" + joined + "'" + suffix + " | " + split + ")");
+            }
+        }
+        return String.join(" & ", terms);
+    }
+
+    @Transactional(readOnly = true)
+    public InterviewDtos.InterviewResponse get(UUID userId, UUID interviewId, long dataVersion) {
+        return interviewCache.item(userId, dataVersion, interviewId, () -> {
+            Interview interview = interviewRepository.findByIdAndUserId(interviewId, userId)
+                    .orElseThrow(() -> new RuntimeException("Interview not found."));
+            return toResponse(interview);
+        });
     }
 
+    @Transactional
     public InterviewDtos.InterviewResponse update(UUID userId, UUID interviewId, InterviewDtos.UpdateInterviewRequest req) {
+        long seq = changed(userId, interviewId);
         Interview interview = interviewRepository.findByIdAndUserId(interviewId, userId)
                 .orElseThrow(() -> new RuntimeException("Interview not found."));
 
+        InterviewStatsService.Delta delta = new InterviewStatsService.Delta();
+        delta.remove(interview.getStatus(), interview.getCompany(), interview.getInterviewDate());
+
         interview.setCompany(req.getCompany());
         interview.setRole(req.getRole());
         interview.setInterviewDate(req.getInterviewDate());
         interview.setStatus(req.getStatus() == null ? "Scheduled" : req.getStatus());
         interview.setNotes(req.getNotes());
+        if (req.getReminderOffsetMinutes() != null) {
+            interview.setReminderOffsetMinutes(req.getReminderOffsetMinutes());
+        }
+        interview.setChangeSeq(seq);
+        if (interview.getImportFingerprint() != null) {
+            // keep an imported row recognisable by what it now says; if another row already
+            // says the same, that one keeps the identity (as in V5__import_fingerprint.sql)
+            String fingerprint = ImportFingerprint.of(req.getCompany(), req.getRole(), req.getInterviewDate());
+            if (!fingerprint.equals(interview.getImportFingerprint())) {
+                interview.setImportFingerprint(interviewRepository
+                        .existsByUserIdAndImportFingerprintAndIdNot(userId, fingerprint, interviewId) ? null : fingerprint);
+            }
+        }
 
         Interview saved = interviewRepository.save(interview);
+        scheduleReminderOnCommit(saved);
+
+        delta.add(saved);
+        statsService.apply(userId, delta);
         return toResponse(saved);
     }
 
+    @Transactional
     public void delete(UUID userId, UUID interviewId) {
+        long seq = changed(userId, interviewId);
         Interview interview = interviewRepository.findByIdAndUserId(interviewId, userId)
                 .orElseThrow(() -> new RuntimeException("Interview not found."));
         interviewRepository.delete(interview);
+        cancelRemindersOnCommit(List.of(interviewId));
+
+        InterviewStatsService.Delta delta = new InterviewStatsService.Delta();
+        delta.remove(interview);
+        statsService.apply(userId, delta);
+
+        tombstoneRepository.save(InterviewTombstone.builder()
+                .userId(userId)
+                .interviewId(interviewId)
+                .changeSeq(seq)
+                .deletedAt(Instant.now())
+                .build());
+    }
+
+    /*
+     * Bulk writes are one statement each instead of a load + save per row. They keep the
+     * same bookkeeping as single writes: one seq for the whole batch, stats deltas built
+     * from the RETURNING rows, and tombstones for deletes.
+     */
+    @Transactional
+    public InterviewDtos.BulkResult bulkUpdate(UUID userId, InterviewDtos.BulkUpdateRequest req) {
+        if (req.getStatus() == null && req.getNotes() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Nothing to update.");
+        }
+        // the column limits importProblem checks, so an over-long value is a 400, not a failed UPDATE
+        if (tooLong(req.getStatus(), Interview.MAX_STATUS_LENGTH)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "status is longer than " + Interview.MAX_STATUS_LENGTH + " characters.");
+        }
+        if (tooLong(req.getNotes(), Interview.MAX_NOTES_LENGTH)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "notes are longer than " + Interview.MAX_NOTES_LENGTH + " characters.");
+        }
+        BulkSelectionSql selection = BulkSelectionSql.of(userId, req.getWhere());
+        long seq = changed(userId, null);
+        evictItemsOnCommit(userId);
+
+        MapSqlParameterSource params = selection.params()
+                .addValue("seq", seq)
+                .addValue("newStatus", isBlank(req.getStatus()) ? null : req.getStatus().trim())
+                .addValue("newNotes", req.getNotes() == null ? null : req.getNotes().trim());
+
+        // RETURNING only sees new values, so the old status comes from the self-join. The
+        // subquery locks its rows: without FOR UPDATE a concurrent write could change the
+        // status between the read and the update, and the stats delta would undo the wrong one.
+        String sql = "update interviews i set "
+                + "status = coalesce(cast(:newStatus as varchar), i.status), "
+                + "notes = coalesce(cast(:newNotes as varchar), i.notes), "
+                + "change_seq = :seq, updated_at = now() "
+                + "from (select id, status from interviews where " + selection.where() + " for update) old "
+                + "where i.id = old.id "
+                + "returning old.status as old_status, i.status, i.company, i.interview_date";
+
+        InterviewStatsService.Delta delta = new InterviewStatsService.Delta();
+        int[] affected = {0};
+        namedJdbc.query(sql, params, rs -> {
+            String company = rs.getString("company");
+            Instant date = rs.getTimestamp("interview_date").toInstant();
+            delta.remove(rs.getString("old_status"), company, date);
+            delta.add(rs.getString("status"), company, date);
+            affected[0]++;
+        });
+        statsService.apply(userId, delta);
+        return new InterviewDtos.BulkResult(affected[0]);
+    }
+
+    @Transactional
+    public InterviewDtos.BulkResult bulkDelete(UUID userId, InterviewDtos.BulkSelection where) {
+        BulkSelectionSql selection = BulkSelectionSql.of(userId, where);
+        long seq = changed(userId, null);
+        evictItemsOnCommit(userId);
+
+        MapSqlParameterSource params = selection.params().addValue("seq", seq);
+
+        // delete and tombstone in one statement; the deleted rows come back for the stats
+        String sql = "with deleted as ("
+                + "delete from interviews where " + selection.where()
+                + " returning id, status, company, interview_date), "
+                + "tombstoned as ("
+                + "insert into interview_tombstones (id, user_id, interview_id, change_seq, deleted_at) "
+                + "select gen_random_uuid(), :userId, id, :seq, now() from deleted) "
+                + "select id, status, company, interview_date from deleted";
+
+        InterviewStatsService.Delta delta = new InterviewStatsService.Delta();
+        List<UUID> deleted = new ArrayList<>();
+        namedJdbc.query(sql, params, rs -> {
+            delta.remove(rs.getString("status"), rs.getString("company"),
+                    rs.getTimestamp("interview_date").toInstant());
+            deleted.add(rs.getObject("id", UUID.class));
+        });
+        statsService.apply(userId, delta);
+        cancelRemindersOnCommit(deleted);
+        return new InterviewDtos.BulkResult(deleted.size());
+    }
+
+    // the reminder timer follows the committed row; an unsent reminder moves with its due time
+    private void scheduleReminderOnCommit(Interview interview) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (interview.getReminderSentAt() == null) {
+                    reminderTimer.schedule(interview.getId(), interview.getReminderDueAt());
+                }
+            }
+        });
+    }
+
+    private void cancelRemindersOnCommit(List<UUID> interviewIds) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                interviewIds.forEach(reminderTimer::cancel);
+            }
+        });
+    }
+
+    private void evictItemsOnCommit(UUID userId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                interviewCache.invalidateUser(userId);
+            }
+        });
     }
 
-    private InterviewDtos.InterviewResponse toResponse(Interview i) {
+    // package-private and static so the JMH benchmarks can call it directly
+    static InterviewDtos.InterviewResponse toResponse(Interview i) {
         InterviewDtos.InterviewResponse r = new InterviewDtos.InterviewResponse();
         r.setId(i.getId());
         r.setCompany(i.getCompany());
@@ -79,71 +507,311 @@ public class InterviewService {
         r.setInterviewDate(i.getInterviewDate());
         r.setStatus(i.getStatus());
         r.setNotes(i.getNotes());
+        r.setReminderOffsetMinutes(i.getReminderOffsetMinutes());
         return r;
     }
 
-    public int importRows(UUID userId, List<InterviewImportRowDto> rows) {
+    @Transactional
+    public InterviewDtos.ImportResult importRows(UUID userId, List<InterviewImportRowDto> rows, DuplicatePolicy duplicates) {
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found."));
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found.");
+        }
+        long seq = changed(userId, null);
 
-        List<Interview> toSave = new ArrayList<>();
+        FingerprintFilter filter = fingerprintIndex.acquire(userId, seq);
 
-        for (InterviewImportRowDto r : rows) {
+        InterviewDtos.ImportResult result = new InterviewDtos.ImportResult();
+        List<InterviewImportRowDto> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        for (int i = 0; i < rows.size(); i++) {
+            String problem = importProblem(rows.get(i));
+            if (problem != null) {
+                reject(result, i + 1, problem);
+                continue;
+            }
+            batch.add(rows.get(i));
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                writeRows(userId, seq, filter, batch, duplicates, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeRows(userId, seq, filter, batch, duplicates, result);
+        }
+        return result;
+    }
 
-            // Normalize required fields
-            String company = nullToNull(r.getCompany());
-            String role = nullToNull(r.getRole());
+    /**
+     * Streaming import: rows are parsed as they arrive and written IMPORT_BATCH_SIZE at a
+     * time, each batch in its own short transaction, so memory stays flat regardless of
+     * file size and no DB connection is held while waiting on the upload.
+     */
+    public InterviewDtos.ImportResult importStream(UUID userId, InputStream in, ImportFormat format,
+                                                   DuplicatePolicy duplicates) throws IOException {
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("User not found.");
+        }
+
+        long started = System.nanoTime();
+        InterviewDtos.ImportResult result = new InterviewDtos.ImportResult();
+
+        ImportRowReader reader = format == ImportFormat.NDJSON
+                ? new NdjsonImportRowReader(in, objectMapper.readerFor(InterviewImportRowDto.class))
+                : new CsvImportRowReader(in);
 
-            // Hard skip rows missing REQUIRED fields (company + role)
-            // (Your entity has nullable=false for both)
-            if (isBlank(company) || isBlank(role)) {
+        List<InterviewImportRowDto> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+        ImportRowReader.Row row;
+        while ((row = reader.next()) != null) {
+            if (row.error() != null) {
+                reject(result, row.number(), row.error());
+                continue;
+            }
+            String problem = importProblem(row.data());
+            if (problem != null) {
+                reject(result, row.number(), problem);
                 continue;
             }
+            batch.add(row.data());
+            if (batch.size() == IMPORT_BATCH_SIZE) {
+                writeBatch(userId, batch, duplicates, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(userId, batch, duplicates, result);
+        }
 
-            Instant interviewInstant;
+        long elapsedNanos = System.nanoTime() - started;
+        result.setElapsedMs(elapsedNanos / 1_000_000);
+        result.setRowsPerSecond(elapsedNanos == 0 ? 0 : result.getImported() * 1_000_000_000L / elapsedNanos);
 
-            // interviewDate is nullable=false in your entity, so we must always set it.
-            if (!isBlank(r.getInterviewDate())) {
-                try {
-                    interviewInstant = Instant.parse(r.getInterviewDate().trim());
-                } catch (Exception e) {
-                    // bad date -> default to now (or you can choose a fixed value)
-                    interviewInstant = Instant.now();
-                }
+        log.info("Streaming {} import for user {}: inserted={} updated={} skipped={} rejected={} in {}ms ({} rows/s)",
+                format, userId, result.getInserted(), result.getUpdated(), result.getSkipped(),
+                result.getRejected(), result.getElapsedMs(), result.getRowsPerSecond());
+        return result;
+    }
+
+    private void writeBatch(UUID userId, List<InterviewImportRowDto> batch, DuplicatePolicy duplicates,
+                            InterviewDtos.ImportResult result) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            long seq = changed(userId, null);
+            writeRows(userId, seq, fingerprintIndex.acquire(userId, seq), batch, duplicates, result);
+        });
+    }
+
+    /*
+     * Writes one import batch inside the caller's transaction, which has already called
+     * changed() and acquired the user's fingerprint filter. Rows are matched on their
+     * ImportFingerprint: new ones are inserted, ones already imported are skipped or, with
+     * DuplicatePolicy.UPDATE, get the file's status and notes. Only fingerprints the user's
+     * filter has seen are looked up, in one query, so a first import costs no extra reads.
+     * New rows go in with ON CONFLICT DO NOTHING: a row that appeared since the lookup (an
+     * import on another instance, an edit that now matches) is counted as skipped instead of
+     * failing the batch.
+     */
+    private void writeRows(UUID userId, long seq, FingerprintFilter filter, List<InterviewImportRowDto> rows,
+                           DuplicatePolicy duplicates, InterviewDtos.ImportResult result) {
+        User user = entityManager.getReference(User.class, userId);
+
+        // the same row twice in one upload counts as a duplicate too
+        Map<String, Interview> incoming = new LinkedHashMap<>();
+        for (InterviewImportRowDto r : rows) {
+            Interview interview = toImported(user, r, seq);
+            if (incoming.putIfAbsent(interview.getImportFingerprint(), interview) != null) {
+                result.setSkipped(result.getSkipped() + 1);
+            }
+        }
+
+        List<String> maybeExisting = incoming.keySet().stream().filter(filter::mightContain).toList();
+        Map<String, ImportedRow> existing = findImported(userId, maybeExisting);
+
+        InterviewStatsService.Delta delta = new InterviewStatsService.Delta();
+        List<Interview> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        for (Interview interview : incoming.values()) {
+            ImportedRow old = existing.get(interview.getImportFingerprint());
+            if (old == null) {
+                inserts.add(interview);
+            } else if (duplicates == DuplicatePolicy.UPDATE && !old.sameAs(interview)) {
+                updates.add(new Object[]{interview.getStatus(), interview.getNotes(), seq, old.id()});
+                delta.remove(old.status(), old.company(), old.interviewDate());
+                delta.add(interview.getStatus(), old.company(), old.interviewDate());
+                result.setUpdated(result.getUpdated() + 1);
             } else {
-                // missing date -> default to now
-                interviewInstant = Instant.now();
+                result.setSkipped(result.getSkipped() + 1);
             }
+        }
 
-            Interview interview = Interview.builder()
-                    .user(user)
-                    .company(company.trim())
-                    .role(role.trim())
-                    .interviewDate(interviewInstant)
-                    .status(isBlank(r.getStatus()) ? "Scheduled" : r.getStatus().trim())
-                    .notes(nullToEmpty(r.getNotes()))
-                    .build();
+        Set<UUID> inserted = insertNew(userId, inserts);
+        Instant reminderHorizon = reminderTimer.horizonEnd();
+        for (Interview interview : inserts) {
+            if (!inserted.contains(interview.getId())) {
+                result.setSkipped(result.getSkipped() + 1);
+                continue;
+            }
+            if (interview.getReminderDueAt().isBefore(reminderHorizon)) {
+                scheduleReminderOnCommit(interview);
+            }
+            filter.add(interview.getImportFingerprint());
+            delta.add(interview);
+            result.setInserted(result.getInserted() + 1);
+        }
 
-            toSave.add(interview);
+        if (!updates.isEmpty()) {
+            namedJdbc.getJdbcTemplate().batchUpdate(
+                    "update interviews set status = ?, notes = ?, change_seq = ?, updated_at = now() where id = ?",
+                    updates);
+            evictItemsOnCommit(userId);
         }
+        statsService.apply(userId, delta);
+        result.setImported(result.getInserted() + result.getUpdated());
+    }
 
-        interviewRepository.saveAll(toSave);
-        return toSave.size();
+    // one multi-row insert per batch; returns the ids that went in
+    private Set<UUID> insertNew(UUID userId, List<Interview> rows) {
+        Set<UUID> inserted = new HashSet<>();
+        if (rows.isEmpty()) {
+            return inserted;
+        }
+        List<Object[]> values = new ArrayList<>(rows.size());
+        for (Interview i : rows) {
+            i.setId(UUID.randomUUID());
+            i.touch();
+            values.add(new Object[]{i.getId(), userId, i.getCompany(), i.getRole(),
+                    Timestamp.from(i.getInterviewDate()), i.getStatus(), i.getNotes(),
+                    i.getReminderOffsetMinutes(), Timestamp.from(i.getReminderDueAt()),
+                    i.getChangeSeq(), Timestamp.from(i.getUpdatedAt()), i.getImportFingerprint()});
+        }
+        // the conflict target names the predicate of the partial uk_interviews_user_import_fingerprint
+        namedJdbc.query(
+                "insert into interviews (id, user_id, company, role, interview_date, status, notes, "
+                        + "reminder_offset_minutes, reminder_due_at, change_seq, updated_at, import_fingerprint) "
+                        + "values :rows "
+                        + "on conflict (user_id, import_fingerprint) where import_fingerprint is not null do nothing "
+                        + "returning id",
+                new MapSqlParameterSource("rows", values),
+                rs -> {
+                    inserted.add(rs.getObject("id", UUID.class));
+                });
+        return inserted;
     }
 
-    private boolean isBlank(String s) {
-        return s == null || s.trim().isEmpty();
+    private record ImportedRow(UUID id, String company, Instant interviewDate, String status, String notes) {
+
+        boolean sameAs(Interview i) {
+            return Objects.equals(status, i.getStatus()) && Objects.equals(notes, i.getNotes());
+        }
+    }
+
+    private Map<String, ImportedRow> findImported(UUID userId, List<String> fingerprints) {
+        Map<String, ImportedRow> found = new HashMap<>();
+        if (fingerprints.isEmpty()) {
+            return found;
+        }
+        // served by uk_interviews_user_import_fingerprint
+        namedJdbc.query(
+                "select id, import_fingerprint, company, interview_date, status, notes from interviews "
+                        + "where user_id = :userId and import_fingerprint in (:fingerprints)",
+                new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("fingerprints", fingerprints),
+                rs -> {
+                    found.put(rs.getString("import_fingerprint"), new ImportedRow(
+                            rs.getObject("id", UUID.class),
+                            rs.getString("company"),
+                            rs.getTimestamp("interview_date").toInstant(),
+                            rs.getString("status"),
+                            rs.getString("notes")));
+                });
+        return found;
+    }
+
+    private void reject(InterviewDtos.ImportResult result, long row, String reason) {
+        result.setRejected(result.getRejected() + 1);
+        if (result.getRejects().size() < MAX_REPORTED_REJECTS) {
+            result.getRejects().add(new InterviewDtos.ImportReject(row, reason));
+        }
+    }
+
+    /*
+     * Why an import row can't be stored, or null if it can: the same rules the interviews
+     * columns enforce, checked up front so one bad row is reported on its own instead of
+     * failing the JDBC batch it would have landed in.
+     */
+    static String importProblem(InterviewImportRowDto r) {
+        if (r == null) {
+            return "empty row.";
+        }
+        if (isBlank(r.getCompany()) || isBlank(r.getRole())) {
+            return "company and role are required.";
+        }
+        if (isBlank(r.getInterviewDate())) {
+            return "interviewDate is required.";
+        }
+        if (parseImportDate(r.getInterviewDate()) == null) {
+            return "interviewDate must be an ISO-8601 date-time, e.g. 2026-03-01T09:30:00Z.";
+        }
+        if (tooLong(r.getCompany(), Interview.MAX_COMPANY_LENGTH)) {
+            return "company is longer than " + Interview.MAX_COMPANY_LENGTH + " characters.";
+        }
+        if (tooLong(r.getRole(), Interview.MAX_ROLE_LENGTH)) {
+            return "role is longer than " + Interview.MAX_ROLE_LENGTH + " characters.";
+        }
+        if (tooLong(r.getStatus(), Interview.MAX_STATUS_LENGTH)) {
+            return "status is longer than " + Interview.MAX_STATUS_LENGTH + " characters.";
+        }
+        if (tooLong(r.getNotes(), Interview.MAX_NOTES_LENGTH)) {
+            return "notes are longer than " + Interview.MAX_NOTES_LENGTH + " characters.";
+        }
+        return null;
+    }
+
+    // ISO-8601 instant; without an offset ("2026-02-19T18:30:00") it is taken as UTC. null if neither
+    private static Instant parseImportDate(String s) {
+        String t = s.trim();
+        try {
+            return Instant.parse(t);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(t).toInstant(ZoneOffset.UTC);
+            } catch (DateTimeParseException e2) {
+                return null;
+            }
+        }
     }
 
-    // returns null if blank, otherwise original string
-    private String nullToNull(String s) {
-        if (s == null) return null;
+    // varchar(n) counts characters, not UTF-16 units
+    private static boolean tooLong(String s, int max) {
+        if (s == null) {
+            return false;
+        }
         String t = s.trim();
-        return t.isEmpty() ? null : t;
+        return t.codePointCount(0, t.length()) > max;
+    }
+
+    // r must have passed importProblem
+    static Interview toImported(User user, InterviewImportRowDto r, long seq) {
+        String company = r.getCompany().trim();
+        String role = r.getRole().trim();
+        Instant interviewInstant = parseImportDate(r.getInterviewDate());
+
+        return Interview.builder()
+                .user(user)
+                .company(company)
+                .role(role)
+                .interviewDate(interviewInstant)
+                .importFingerprint(ImportFingerprint.of(company, role, interviewInstant))
+                .status(isBlank(r.getStatus()) ? "Scheduled" : r.getStatus().trim())
+                .notes(nullToEmpty(r.getNotes()))
+                .changeSeq(seq)
+                .build();
+    }
+
+    private static boolean isBlank(String s) {
+        return s == null || s.trim().isEmpty();
     }
 
-    private String nullToEmpty(String s) {
+    private static String nullToEmpty(String s) {
         return s == null ? "" : s.trim();
     }
-}
\ No newline at end of file
+}
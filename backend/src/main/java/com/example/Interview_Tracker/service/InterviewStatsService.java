@@ -0,0 +1,141 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.config.ReadYourWrites;
+import com.example.Interview_Tracker.dto.InterviewDtos;
+import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.model.InterviewStat;
+import com.example.Interview_Tracker.repo.InterviewStatRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Pipeline counters (by status, company and ISO week of interviewDate), kept current by
+ * applying +1/-1 deltas in the same transaction as each interview write. {@link #rebuild}
+ * recomputes a user's counters from the interviews table if they ever drift.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewStatsService {
+
+    private static final String UPSERT =
+            "insert into interview_stats (user_id, dimension, bucket, count) values (?, ?, ?, ?) "
+                    + "on conflict (user_id, dimension, bucket) "
+                    + "do update set count = interview_stats.count + excluded.count";
+
+    private final InterviewStatRepository statRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadYourWrites readYourWrites;
+
+    /**
+     * Accumulates counter changes for one write; identical buckets collapse, so an import
+     * batch turns into one upsert per distinct status/company/week.
+     */
+    public static class Delta {
+        private final Map<InterviewStat.Key, Long> changes = new HashMap<>();
+
+        public void add(Interview i) {
+            apply(i.getStatus(), i.getCompany(), i.getInterviewDate(), 1);
+        }
+
+        public void remove(Interview i) {
+            apply(i.getStatus(), i.getCompany(), i.getInterviewDate(), -1);
+        }
+
+        public void add(String status, String company, Instant interviewDate) {
+            apply(status, company, interviewDate, 1);
+        }
+
+        public void remove(String status, String company, Instant interviewDate) {
+            apply(status, company, interviewDate, -1);
+        }
+
+        private void apply(String status, String company, Instant interviewDate, long by) {
+            bump(InterviewStat.Dimension.STATUS, status == null ? "" : status, by);
+            bump(InterviewStat.Dimension.COMPANY, company, by);
+            bump(InterviewStat.Dimension.WEEK, weekOf(interviewDate), by);
+        }
+
+        private void bump(InterviewStat.Dimension dimension, String bucket, long by) {
+            changes.merge(new InterviewStat.Key(null, dimension, bucket), by, Long::sum);
+        }
+    }
+
+    // monday of the ISO week, UTC; matches date_trunc('week', ...) used by rebuild
+    static String weekOf(Instant instant) {
+        return instant.atZone(ZoneOffset.UTC).toLocalDate().with(DayOfWeek.MONDAY).toString();
+    }
+
+    // must run inside the write's transaction
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(UUID userId, Delta delta) {
+        List<Object[]> args = new ArrayList<>();
+        delta.changes.forEach((k, by) -> {
+            if (by != 0) {
+                args.add(new Object[]{userId, k.getDimension().name(), k.getBucket(), by});
+            }
+        });
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT, args);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public InterviewDtos.StatsResponse get(UUID userId) {
+        InterviewDtos.StatsResponse res = new InterviewDtos.StatsResponse();
+        res.setByStatus(new TreeMap<>());
+        res.setByCompany(new TreeMap<>());
+        res.setByWeek(new TreeMap<>());
+
+        for (InterviewStat s : statRepository.findNonZero(userId)) {
+            Map<String, Long> target = switch (s.getId().getDimension()) {
+                case STATUS -> res.getByStatus();
+                case COMPANY -> res.getByCompany();
+                case WEEK -> res.getByWeek();
+            };
+            target.put(s.getId().getBucket(), s.getCount());
+        }
+        return res;
+    }
+
+    /**
+     * Recomputes one user's counters with a single aggregate pass over their interviews.
+     * The user row is locked first so concurrent writes (which lock it too) wait.
+     */
+    @Transactional
+    public void rebuild(UUID userId) {
+        jdbcTemplate.queryForList("select id from users where id = ? for update", userId);
+        readYourWrites.wroteOnCommit(userId);
+        jdbcTemplate.update("delete from interview_stats where user_id = ?", userId);
+
+        jdbcTemplate.update(
+                "insert into interview_stats (user_id, dimension, bucket, count) "
+                        + "select user_id, 'STATUS', coalesce(status, ''), count(*) from interviews "
+                        + "where user_id = ? group by user_id, coalesce(status, '')", userId);
+        jdbcTemplate.update(
+                "insert into interview_stats (user_id, dimension, bucket, count) "
+                        + "select user_id, 'COMPANY', company, count(*) from interviews "
+                        + "where user_id = ? group by user_id, company", userId);
+        jdbcTemplate.update(
+                "insert into interview_stats (user_id, dimension, bucket, count) "
+                        + "select user_id, 'WEEK', to_char(date_trunc('week', interview_date at time zone 'UTC'), 'YYYY-MM-DD'), count(*) "
+                        + "from interviews where user_id = ? "
+                        + "group by user_id, date_trunc('week', interview_date at time zone 'UTC')", userId);
+
+        log.info("Rebuilt interview stats for user {}", userId);
+    }
+}
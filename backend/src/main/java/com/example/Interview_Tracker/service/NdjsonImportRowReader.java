@@ -0,0 +1,86 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewImportRowDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One JSON object per line; a malformed or over-long line is rejected without stopping
+ * the import.
+ */
+class NdjsonImportRowReader implements ImportRowReader {
+
+    private final Reader in;
+    private final ObjectReader rowReader;
+    private final char[] buf = new char[8192];
+    private int pos;
+    private int len;
+    // the current line, up to one char past MAX_RECORD_CHARS
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+
+    NdjsonImportRowReader(InputStream in, ObjectReader rowReader) {
+        this.in = new InputStreamReader(in, StandardCharsets.UTF_8);
+        this.rowReader = rowReader;
+    }
+
+    @Override
+    public Row next() throws IOException {
+        long chars;
+        while ((chars = readLine()) != -1) {
+            lineNumber++;
+            if (chars > MAX_RECORD_CHARS) {
+                return Row.rejected(lineNumber, "Row exceeds " + MAX_RECORD_CHARS + " characters.");
+            }
+            String text = line.toString();
+            if (text.isBlank()) {
+                continue;
+            }
+            try {
+                InterviewImportRowDto row = rowReader.readValue(text);
+                return Row.ok(lineNumber, row);
+            } catch (JsonProcessingException e) {
+                return Row.rejected(lineNumber, "Malformed JSON.");
+            }
+        }
+        return null;
+    }
+
+    // reads the next line into `line` and returns its full length, or -1 at end of input
+    private long readLine() throws IOException {
+        line.setLength(0);
+        long chars = 0;
+        while (true) {
+            if (pos == len) {
+                len = in.read(buf, 0, buf.length);
+                pos = 0;
+                if (len <= 0) {
+                    len = 0;
+                    return chars == 0 ? -1 : chars;
+                }
+            }
+            int start = pos;
+            while (pos < len && buf[pos] != '\n') {
+                pos++;
+            }
+            int keep = (int) Math.min(pos - start, MAX_RECORD_CHARS + 1L - line.length());
+            line.append(buf, start, keep);
+            chars += pos - start;
+            if (pos < len) {
+                pos++;
+                // \r\n line ends; only when the whole line was kept, a longer one is rejected anyway
+                if (chars == line.length() && chars > 0 && line.charAt(line.length() - 1) == '\r') {
+                    line.setLength(line.length() - 1);
+                    chars--;
+                }
+                return chars;
+            }
+        }
+    }
+}
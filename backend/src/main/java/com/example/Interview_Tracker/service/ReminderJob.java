@@ -1,66 +1,238 @@
 package com.example.Interview_Tracker.service;
 
 import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.repo.InterviewReminderClaims;
 import com.example.Interview_Tracker.repo.InterviewRepository;
+import com.example.Interview_Tracker.repo.ReminderDue;
+import com.example.Interview_Tracker.repo.ReminderOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Sends each interview's reminder at its due time (interviewDate minus its offset).
+ *
+ * Reminders due within the horizon sit in {@link ReminderTimer}; a dispatcher thread waits
+ * on it and queues each one in the outbox as it comes due. InterviewService keeps the timer
+ * current on every write, so the DB is only scanned by reconcile(), which refills the
+ * horizon on startup and then every reconcile-ms (must be shorter than the horizon).
+ */
 @Slf4j
+// @Scheduled only registers on created beans, so opt out of lazy init (fast-start profile)
 @Component
+@Lazy(false)
 @RequiredArgsConstructor
 public class ReminderJob {
 
     private final InterviewRepository interviewRepository;
+    private final InterviewReminderClaims reminderClaims;
+    private final ReminderOutboxRepository outboxRepository;
+    private final ReminderOutboxWorker outboxWorker;
+    private final ReminderTimer timer;
     private final EmailService emailService;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final Duration LOCKED_RETRY = Duration.ofSeconds(30);
+    private static final int DIGEST_BODY_BUDGET = 3800;
+
+    // one email per user for everything due together (see enqueue)
+    @Value("${app.reminders.digest.enabled:false}")
+    private boolean digest;
+
+    @Value("${app.reminders.digest.window-minutes:60}")
+    private long digestWindowMinutes;
+
+    private volatile Thread dispatcher;
 
     private static final DateTimeFormatter FMT =
             DateTimeFormatter.ofPattern("EEE, MMM d yyyy 'at' h:mm a z")
                     .withZone(ZoneId.systemDefault());
 
-    // runs every 5 minutes
-    @Transactional
-    @Scheduled(fixedDelay = 300_000)
-    public void send24HourReminders() {
+    // first run at startup; also picks up reminders missed while the app was down
+    @Scheduled(fixedDelayString = "${app.reminders.reconcile-ms:600000}")
+    @Observed(name = "reminder.job")
+    public void reconcile() {
         Instant now = Instant.now();
+        Instant until = timer.horizonEnd();
 
-        // window = interviews happening 24h-24h5m from now (approx)
-        Instant start = now.plusSeconds(24 * 3600);
-        Instant end = start.plusSeconds(60 * 60);
+        // the scan is read-only, so it can be served by the replica
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        List<ReminderDue> due = readOnly.execute(s -> interviewRepository.findUnremindedDue(until, now));
+        if (due == null) {
+            return;
+        }
 
-        log.info("ReminderJob tick. now={} window=[{}, {})", now, start, end);
+        due.forEach(d -> timer.schedule(d.getId(), d.getReminderDueAt()));
+        log.info("ReminderJob reconciled {} reminders due before {}", due.size(), until);
+    }
 
-        List<Interview> due = interviewRepository
-            .findByInterviewDateBetweenAndReminderSentAtIsNull(start, end);
+    @EventListener(ApplicationReadyEvent.class)
+    public void startDispatcher() {
+        Thread t = new Thread(this::dispatch, "reminder-dispatcher");
+        t.setDaemon(true);
+        t.start();
+        dispatcher = t;
+    }
 
-        log.info("ReminderJob found {} due interviews", due.size());
+    @PreDestroy
+    public void stopDispatcher() {
+        Thread t = dispatcher;
+        if (t != null) {
+            t.interrupt();
+        }
+    }
 
-        for (Interview it : due) {
-            String to = it.getUser().getEmail(); // users already have email
-            String subject = "Interview Reminder: " + it.getCompany() + " — " + it.getRole();
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<UUID> due = timer.awaitDue();
+                if (!due.isEmpty()) {
+                    fire(due);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                // the rows are still unsent, so the next reconcile() schedules them again
+                log.warn("ReminderJob dispatch failed", e);
+            }
+        }
+    }
 
-            String body =
-                    "Reminder: You have an interview coming up.\n\n" +
-                    "Company: " + it.getCompany() + "\n" +
-                    "Role: " + it.getRole() + "\n" +
-                    "When: " + FMT.format(it.getInterviewDate()) + "\n\n" +
-                    (it.getNotes() != null && !it.getNotes().isBlank()
-                            ? "Notes:\n" + it.getNotes() + "\n\n"
-                            : "") +
-                    "— Interview Tracker";
+    /*
+     * Every instance's timer fires the same reminders. Each claims what it can with SKIP
+     * LOCKED and queues those; a row it skipped is either being queued by another instance
+     * or held by a user's edit, so it is tried again shortly, and dropped once it's sent.
+     */
+    private void fire(List<UUID> candidates) {
+        Instant now = Instant.now();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        List<UUID> queued = tx.execute(s -> enqueue(candidates, now));
 
-            emailService.sendInterviewReminder(to, subject, body);
+        List<UUID> skipped = new ArrayList<>(candidates);
+        if (queued != null) {
+            skipped.removeAll(queued);
+        }
+        if (!skipped.isEmpty()) {
+            List<UUID> stillDue = tx.execute(s -> interviewRepository.findDueIdsIn(skipped, now));
+            if (stillDue != null) {
+                stillDue.forEach(id -> timer.schedule(id, now.plus(LOCKED_RETRY)));
+            }
+        }
 
-            it.setReminderSentAt(Instant.now());
-            interviewRepository.save(it);
+        // deliver now rather than on the outbox's next poll
+        outboxWorker.drain();
+    }
+
+    private List<UUID> enqueue(List<UUID> candidates, Instant now) {
+        List<UUID> claimed = reminderClaims.claimDue(candidates, now);
+
+        if (digest && !claimed.isEmpty()) {
+            // pull the same users' reminders due within the window into this email
+            Set<UUID> userIds = interviewRepository.findAllById(claimed).stream()
+                    .map(it -> it.getUser().getId())
+                    .collect(Collectors.toSet());
+            claimed = new ArrayList<>(claimed);
+            claimed.addAll(reminderClaims.claimDueForUsers(userIds, now.plus(Duration.ofMinutes(digestWindowMinutes)), now));
+        }
+        // only the rows this transaction claimed; the claim has already marked them reminded
+        List<Interview> due = interviewRepository.findAllById(claimed);
+
+        log.info("ReminderJob queueing {} due interviews", due.size());
+        meterRegistry.counter("reminder.job.rows").increment(due.size());
+
+        // only enqueue here; ReminderOutboxWorker does the SMTP work outside this transaction
+        Map<UUID, List<Interview>> byUser = due.stream()
+                .collect(Collectors.groupingBy(it -> it.getUser().getId(), LinkedHashMap::new, Collectors.toList()));
+        for (List<Interview> mine : byUser.values()) {
+            if (digest && mine.size() > 1) {
+                mine.sort(Comparator.comparing(Interview::getInterviewDate));
+                queueDigest(mine, now);
+            } else {
+                mine.forEach(it -> queue(it, reminderSubject(it), reminderBody(it), now));
+            }
+        }
+        return claimed;
+    }
+
+    // an interview already in the outbox keeps its row; the rest of the batch is still queued
+    private void queue(Interview it, String subject, String body, Instant now) {
+        if (outboxRepository.enqueue(it.getId(), it.getUser().getEmail(), subject, body, now) == 0) {
+            log.info("ReminderJob: interview {} is already in the outbox", it.getId());
+        }
+    }
+
+    // the outbox row is keyed by the earliest interview not already in the outbox; the others
+    // were claimed with it. Keying on a queued one would drop the whole digest
+    private void queueDigest(List<Interview> mine, Instant now) {
+        String subject = digestSubject(mine);
+        String body = digestBody(mine);
+        for (Interview key : mine) {
+            if (outboxRepository.enqueue(key.getId(), key.getUser().getEmail(), subject, body, now) > 0) {
+                return;
+            }
+        }
+        log.info("ReminderJob: all {} interviews of a digest are already in the outbox", mine.size());
+    }
+
+    static String reminderSubject(Interview it) {
+        return "Interview Reminder: " + it.getCompany() + " — " + it.getRole();
+    }
+
+    static String reminderBody(Interview it) {
+        return "Reminder: You have an interview coming up.\n\n" +
+                "Company: " + it.getCompany() + "\n" +
+                "Role: " + it.getRole() + "\n" +
+                "When: " + FMT.format(it.getInterviewDate()) + "\n\n" +
+                (it.getNotes() != null && !it.getNotes().isBlank()
+                        ? "Notes:\n" + it.getNotes() + "\n\n"
+                        : "") +
+                "— Interview Tracker";
+    }
+
+    static String digestSubject(List<Interview> interviews) {
+        return "Interview Reminder: " + interviews.size() + " upcoming interviews";
+    }
+
+    // one block per interview, oldest first; stops short of the outbox's 4000-char body
+    static String digestBody(List<Interview> interviews) {
+        StringBuilder sb = new StringBuilder("Reminder: You have interviews coming up.\n\n");
+        for (int i = 0; i < interviews.size(); i++) {
+            Interview it = interviews.get(i);
+            String entry = "Company: " + it.getCompany() + "\n" +
+                    "Role: " + it.getRole() + "\n" +
+                    "When: " + FMT.format(it.getInterviewDate()) + "\n\n";
+            if (sb.length() + entry.length() > DIGEST_BODY_BUDGET) {
+                sb.append("…and ").append(interviews.size() - i).append(" more.\n\n");
+                break;
+            }
+            sb.append(entry);
         }
+        return sb.append("— Interview Tracker").toString();
     }
 
     // manual test trigger (does not touch DB)
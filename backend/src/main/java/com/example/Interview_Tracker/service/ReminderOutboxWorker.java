@@ -0,0 +1,160 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.model.ReminderOutbox;
+import com.example.Interview_Tracker.repo.ReminderOutboxClaims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Drains the reminder outbox. The scheduler thread only claims rows and hands them to the
+ * mail pool; SMTP happens on pool threads with no transaction open, and each row's outcome
+ * commits on its own. Each pool task sends a batch of rows over one SMTP connection.
+ * Rows are claimed with a lease (see ReminderOutboxClaims), so any number of instances
+ * can drain the same outbox without sending a reminder twice.
+ * Kept eager under lazy initialization so drain() gets scheduled.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class ReminderOutboxWorker {
+
+    private final ReminderOutboxClaims claims;
+    private final EmailService emailService;
+
+    @Qualifier("reminderMailExecutor")
+    private final ThreadPoolTaskExecutor reminderMailExecutor;
+
+    // identifies this instance's claims; a restart gets a new one, and its old leases just expire
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${app.reminders.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.reminders.outbox.base-backoff-ms:30000}")
+    private long baseBackoffMs;
+
+    @Value("${app.reminders.outbox.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+
+    // must outlast a send, including SMTP timeouts, or a slow row may be claimed again
+    @Value("${app.reminders.outbox.lease-ms:300000}")
+    private long leaseMs;
+
+    // per drain; small batches spread rows across instances instead of one taking them all
+    @Value("${app.reminders.outbox.claim-batch:20}")
+    private int claimBatch;
+
+    // messages per SMTP connection
+    @Value("${app.reminders.outbox.send-batch:10}")
+    private int sendBatch;
+
+    @Value("${spring.mail.properties.mail.smtp.connectiontimeout:0}")
+    private long connectTimeoutMs;
+
+    @Value("${spring.mail.properties.mail.smtp.timeout:0}")
+    private long readTimeoutMs;
+
+    @Value("${spring.mail.properties.mail.smtp.writetimeout:0}")
+    private long writeTimeoutMs;
+
+    // a batch sent one message after another, each hitting every SMTP timeout, must still
+    // finish inside the lease; otherwise another instance re-claims rows still being sent
+    @PostConstruct
+    void checkLease() {
+        if (connectTimeoutMs <= 0 || readTimeoutMs <= 0 || writeTimeoutMs <= 0) {
+            throw new IllegalStateException("mail.smtp.connectiontimeout, timeout and writetimeout must be set: "
+                    + "an unbounded send can outlast app.reminders.outbox.lease-ms");
+        }
+        long worstBatchMs = claimBatch * (connectTimeoutMs + readTimeoutMs + writeTimeoutMs);
+        if (worstBatchMs > leaseMs) {
+            throw new IllegalStateException("app.reminders.outbox.lease-ms (" + leaseMs + ") is shorter than "
+                    + "claim-batch x SMTP timeouts (" + worstBatchMs + " ms)");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.reminders.outbox.poll-ms:15000}")
+    public void drain() {
+        // never claim more than the pool can take; claimed rows are off-limits to other instances
+        int free = reminderMailExecutor.getThreadPoolExecutor().getQueue().remainingCapacity();
+        int limit = (int) Math.min(claimBatch, (long) free * sendBatch);
+        if (limit == 0) {
+            return;
+        }
+
+        List<ReminderOutbox> claimed = claims.claim(owner, limit, Instant.now(), Duration.ofMillis(leaseMs));
+        for (int from = 0; from < claimed.size(); from += sendBatch) {
+            List<ReminderOutbox> batch = List.copyOf(claimed.subList(from, Math.min(from + sendBatch, claimed.size())));
+            try {
+                reminderMailExecutor.execute(() -> deliver(batch));
+            } catch (TaskRejectedException e) {
+                // the pool filled up meanwhile; give the rest back for any instance to take
+                List<UUID> rest = claimed.subList(from, claimed.size()).stream().map(ReminderOutbox::getId).toList();
+                claims.release(owner, rest);
+                log.info("Reminder mail pool saturated, released {} rows", rest.size());
+                break;
+            }
+        }
+    }
+
+    // one SMTP session per batch; each row's outcome is recorded on its own
+    private void deliver(List<ReminderOutbox> batch) {
+        Map<Integer, Exception> failed = emailService.sendAll(batch.stream()
+                .map(row -> new EmailService.Outgoing(row.getRecipient(), row.getSubject(), row.getBody()))
+                .toList());
+
+        Instant now = Instant.now();
+        for (int i = 0; i < batch.size(); i++) {
+            ReminderOutbox row = batch.get(i);
+            Exception e = failed.get(i);
+            if (e == null) {
+                if (!claims.markSent(row.getId(), owner, now)) {
+                    // the lease ran out mid-send and another instance may send it again
+                    log.warn("Reminder {} sent after its claim expired", row.getId());
+                }
+                continue;
+            }
+
+            int attempt = row.getAttempts() + 1;
+            boolean giveUp = attempt >= maxAttempts;
+
+            boolean owned = claims.markFailed(
+                    row.getId(),
+                    owner,
+                    giveUp ? ReminderOutbox.Status.FAILED : ReminderOutbox.Status.PENDING,
+                    now.plus(backoff(attempt)),
+                    truncate(e.getMessage()));
+
+            log.warn("Reminder {} attempt {} failed{}: {}",
+                    row.getId(), attempt, giveUp && owned ? " (giving up)" : "", e.getMessage());
+        }
+    }
+
+    // exponential backoff with up to 20% jitter
+    private Duration backoff(int attempt) {
+        long exp = baseBackoffMs << Math.min(attempt - 1, 20);
+        long capped = Math.min(exp, maxBackoffMs);
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+        return Duration.ofMillis(capped + jitter);
+    }
+
+    private static String truncate(String s) {
+        if (s == null) return null;
+        return s.length() <= 500 ? s : s.substring(0, 500);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.Interview_Tracker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory schedule of the reminders due within the next horizon. Writes move or cancel
+ * an interview's reminder in place (see InterviewService); ReminderJob's dispatcher blocks
+ * in {@link #awaitDue()} and is woken at each due time, and its reconciliation pass
+ * refills the horizon from the DB after a restart or writes on another instance.
+ *
+ * The map holds each interview's current due time. Moving or cancelling one only updates
+ * the map; the superseded queue entry is dropped when it comes up.
+ */
+@Component
+public class ReminderTimer {
+
+    private record Due(UUID interviewId, long dueAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((Due) other).dueAtMillis);
+        }
+    }
+
+    private final Duration horizon;
+
+    private final DelayQueue<Due> queue = new DelayQueue<>();
+    private final Map<UUID, Long> scheduled = new ConcurrentHashMap<>();
+
+    private final LongAdder fired = new LongAdder();
+
+    public ReminderTimer(@Value("${app.reminders.horizon-minutes:120}") long horizonMinutes) {
+        this.horizon = Duration.ofMinutes(horizonMinutes);
+    }
+
+    // reminders due after this are left to a later reconciliation pass
+    public Instant horizonEnd() {
+        return Instant.now().plus(horizon);
+    }
+
+    // call after the write has committed; a past due time fires right away
+    public void schedule(UUID interviewId, Instant dueAt) {
+        if (dueAt.isAfter(horizonEnd())) {
+            cancel(interviewId);
+            return;
+        }
+        long dueAtMillis = dueAt.toEpochMilli();
+        Long previous = scheduled.put(interviewId, dueAtMillis);
+        if (previous == null || previous != dueAtMillis) {
+            queue.add(new Due(interviewId, dueAtMillis));
+        }
+    }
+
+    public void cancel(UUID interviewId) {
+        scheduled.remove(interviewId);
+    }
+
+    // blocks until at least one reminder is due, then returns all that are
+    List<UUID> awaitDue() throws InterruptedException {
+        List<Due> expired = new ArrayList<>();
+        expired.add(queue.take());
+        queue.drainTo(expired);
+
+        List<UUID> due = new ArrayList<>(expired.size());
+        for (Due d : expired) {
+            // only if this entry is still the interview's current one
+            if (scheduled.remove(d.interviewId(), d.dueAtMillis())) {
+                due.add(d.interviewId());
+            }
+        }
+        fired.add(due.size());
+        return due;
+    }
+
+    public Map<String, Long> stats() {
+        return Map.of(
+                "scheduled", (long) scheduled.size(),
+                "queued", (long) queue.size(),
+                "fired", fired.sum());
+    }
+}
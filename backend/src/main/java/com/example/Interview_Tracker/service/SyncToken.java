@@ -0,0 +1,38 @@
+package com.example.Interview_Tracker.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque /changes position: everything up to (seq, afterId) has been delivered.
+ * afterId is only set when a page stopped part-way through a seq shared by many rows
+ * (an import batch). issuedAt lets us tell when tombstones may already be pruned.
+ */
+record SyncToken(long seq, UUID afterId, long issuedAtMillis) {
+
+    // sorts after every real id, so "(seq, LAST)" means "all of seq"
+    static final UUID LAST = new UUID(-1L, -1L);
+
+    String encode() {
+        String raw = seq + "|" + (afterId == null ? "" : afterId) + "|" + issuedAtMillis;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static SyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            return new SyncToken(
+                    Long.parseLong(parts[0]),
+                    parts[1].isEmpty() ? null : UUID.fromString(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid sync token.");
+        }
+    }
+}
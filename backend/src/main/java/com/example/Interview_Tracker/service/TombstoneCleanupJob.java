@@ -0,0 +1,33 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.repo.InterviewTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class TombstoneCleanupJob {
+
+    private final InterviewTombstoneRepository tombstoneRepository;
+
+    @Value("${app.sync.tombstone-retention-days:30}")
+    private int retentionDays;
+
+    // every 6 hours; sync tokens older than the retention are told to reset instead
+    @Scheduled(fixedDelay = 6 * 3600_000L, initialDelay = 60_000L)
+    public void prune() {
+        int removed = tombstoneRepository.deleteOlderThan(Instant.now().minus(Duration.ofDays(retentionDays)));
+        if (removed > 0) {
+            log.info("Pruned {} interview tombstones older than {} days", removed, retentionDays);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+-- Schema as Hibernate's ddl-auto=update left it before migrations took over.
+-- Written with "if not exists" so it is a no-op on databases created that way
+-- (spring.flyway.baseline-on-migrate with baseline-version 0) and a full create on empty ones.
+
+create table if not exists users (
+    id             uuid         not null primary key,
+    email          varchar(120) not null,
+    password_hash  varchar(255) not null,
+    data_version   bigint       not null default 0,
+    calendar_token varchar(64)
+);
+alter table users add column if not exists data_version bigint not null default 0;
+alter table users add column if not exists calendar_token varchar(64);
+
+-- Hibernate named its unique constraints randomly; only add ours where none exists yet
+do $$
+begin
+    if not exists (select 1 from pg_indexes
+                   where tablename = 'users' and indexdef like 'CREATE UNIQUE INDEX % (email)') then
+        create unique index uk_users_email on users (email);
+    end if;
+    if not exists (select 1 from pg_indexes
+                   where tablename = 'users' and indexdef like 'CREATE UNIQUE INDEX % (calendar_token)') then
+        create unique index uk_users_calendar_token on users (calendar_token);
+    end if;
+end $$;
+
+create table if not exists interviews (
+    id               uuid                        not null primary key,
+    user_id          uuid                        not null references users (id),
+    company          varchar(120)                not null,
+    role             varchar(120)                not null,
+    interview_date   timestamp(6) with time zone not null,
+    status           varchar(40),
+    notes            varchar(2000),
+    reminder_sent_at timestamp(6) with time zone,
+    change_seq       bigint                      not null default 0,
+    updated_at       timestamp(6) with time zone
+);
+alter table interviews add column if not exists reminder_sent_at timestamp(6) with time zone;
+alter table interviews add column if not exists change_seq bigint not null default 0;
+alter table interviews add column if not exists updated_at timestamp(6) with time zone;
+create index if not exists idx_interviews_user_date_id on interviews (user_id, interview_date, id);
+create index if not exists idx_interviews_user_seq on interviews (user_id, change_seq, id);
+-- list filtered by company (InterviewSpecs.companyIs): narrows to the company as well as
+-- the user and still returns rows in keyset order
+create index if not exists idx_interviews_user_company_date_id
+    on interviews (user_id, lower(company), interview_date, id);
+
+create table if not exists reminder_outbox (
+    id              uuid                        not null primary key,
+    interview_id    uuid                        not null,
+    recipient       varchar(120)                not null,
+    subject         varchar(300)                not null,
+    body            varchar(4000)               not null,
+    status          varchar(16)                 not null check (status in ('PENDING', 'SENT', 'FAILED')),
+    attempts        integer                     not null,
+    next_attempt_at timestamp(6) with time zone not null,
+    last_error      varchar(500),
+    created_at      timestamp(6) with time zone not null,
+    sent_at         timestamp(6) with time zone
+);
+do $$
+begin
+    if not exists (select 1 from pg_indexes
+                   where tablename = 'reminder_outbox' and indexdef like 'CREATE UNIQUE INDEX % (interview_id)') then
+        create unique index uk_reminder_outbox_interview_id on reminder_outbox (interview_id);
+    end if;
+end $$;
+create index if not exists idx_reminder_outbox_status_next on reminder_outbox (status, next_attempt_at);
+
+create table if not exists interview_tombstones (
+    id           uuid                        not null primary key,
+    user_id      uuid                        not null,
+    interview_id uuid                        not null,
+    change_seq   bigint                      not null,
+    deleted_at   timestamp(6) with time zone not null
+);
+create index if not exists idx_tombstones_user_seq on interview_tombstones (user_id, change_seq);
+create index if not exists idx_tombstones_deleted_at on interview_tombstones (deleted_at);
+
+create table if not exists interview_stats (
+    user_id   uuid         not null,
+    dimension varchar(16)  not null check (dimension in ('STATUS', 'COMPANY', 'WEEK')),
+    bucket    varchar(120) not null,
+    count     bigint       not null,
+    primary key (user_id, dimension, bucket)
+);
@@ -0,0 +1,19 @@
+-- Full-text search over company / role / notes (see InterviewRepository.search).
+-- Used to run from spring.sql.init on every boot, hence "if not exists".
+-- 'simple' config: no stemming, which suits company names; prefix queries cover word variants.
+
+alter table interviews add column if not exists search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('simple', coalesce(company, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(role, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(notes, '')), 'C')
+    ) stored;
+
+-- Search is always "where user_id = ? and search_vector @@ q". On a plain GIN index over
+-- search_vector a common word matches every user's rows, and the user filter only applies
+-- afterwards. btree_gin lets user_id sit in the same GIN index, so the scan only touches
+-- the searching user's postings.
+create extension if not exists btree_gin;
+
+create index if not exists idx_interviews_user_search
+    on interviews using gin (user_id, search_vector);
@@ -0,0 +1,6 @@
+-- ReminderJob: where interview_date between ? and ? and reminder_sent_at is null.
+-- Only not-yet-reminded rows are indexed, so the index stays a small slice of the table
+-- and the tick is a short range scan instead of a sequential scan over all interviews.
+create index if not exists idx_interviews_unsent_reminder
+    on interviews (interview_date)
+    where reminder_sent_at is null;
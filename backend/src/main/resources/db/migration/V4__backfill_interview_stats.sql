@@ -0,0 +1,20 @@
+-- interview_stats is only maintained by deltas on writes (InterviewStatsService), so
+-- users whose interviews predate it have no counters, or only the deltas of writes since.
+-- Recompute every user's counters from the interviews table, the same aggregates as
+-- InterviewStatsService.rebuild.
+delete from interview_stats;
+
+insert into interview_stats (user_id, dimension, bucket, count)
+select user_id, 'STATUS', coalesce(status, ''), count(*)
+from interviews
+group by user_id, coalesce(status, '');
+
+insert into interview_stats (user_id, dimension, bucket, count)
+select user_id, 'COMPANY', company, count(*)
+from interviews
+group by user_id, company;
+
+insert into interview_stats (user_id, dimension, bucket, count)
+select user_id, 'WEEK', to_char(date_trunc('week', interview_date at time zone 'UTC'), 'YYYY-MM-DD'), count(*)
+from interviews
+group by user_id, date_trunc('week', interview_date at time zone 'UTC');
@@ -0,0 +1,34 @@
+-- Re-importing the same file must not duplicate rows. Imported rows carry a fingerprint of
+-- their identity (company, role, interview time; see ImportFingerprint) and the unique
+-- index below makes a second insert of the same one impossible, whatever the app decides.
+alter table interviews add column if not exists import_fingerprint varchar(32);
+
+-- Existing rows get the same fingerprint the app would compute, so a file imported before
+-- this migration is recognised too. Where a user already has duplicates, only the oldest
+-- one is fingerprinted.
+update interviews i
+set import_fingerprint = f.fp
+from (
+    select id,
+           left(encode(sha256(convert_to(
+                   lower(btrim(company)) || chr(31) || lower(btrim(role)) || chr(31)
+                       || floor(extract(epoch from interview_date))::bigint::text,
+                   'UTF8')), 'hex'), 32) as fp
+    from interviews
+) f
+where i.id = f.id
+  and i.import_fingerprint is null;
+
+update interviews i
+set import_fingerprint = null
+from (
+    select id, row_number() over (partition by user_id, import_fingerprint order by change_seq, id) as n
+    from interviews
+    where import_fingerprint is not null
+) d
+where i.id = d.id
+  and d.n > 1;
+
+create unique index if not exists uk_interviews_user_import_fingerprint
+    on interviews (user_id, import_fingerprint)
+    where import_fingerprint is not null;
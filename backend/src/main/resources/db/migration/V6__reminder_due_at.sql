@@ -0,0 +1,17 @@
+-- Per-interview reminder offsets. reminder_due_at is interview_date minus the offset, kept
+-- by the app on every write, so the reminder scheduler's reconciliation pass is a range
+-- scan on due time instead of a fixed window on interview_date.
+alter table interviews add column if not exists reminder_offset_minutes integer not null default 1440;
+alter table interviews add column if not exists reminder_due_at timestamp(6) with time zone;
+
+update interviews
+set reminder_due_at = interview_date - make_interval(mins => reminder_offset_minutes)
+where reminder_due_at is null;
+
+alter table interviews alter column reminder_due_at set not null;
+
+-- replaces V3's index on interview_date; still only the not-yet-reminded rows
+drop index if exists idx_interviews_unsent_reminder;
+create index if not exists idx_interviews_unsent_reminder_due
+    on interviews (reminder_due_at)
+    where reminder_sent_at is null;
@@ -0,0 +1,5 @@
+-- Multi-instance outbox draining: a worker claims rows with FOR UPDATE SKIP LOCKED and
+-- holds them for a lease. Until claimed_until passes no other instance picks the row up;
+-- if the claiming instance dies mid-send, the row becomes claimable again after that.
+alter table reminder_outbox add column if not exists claimed_by varchar(64);
+alter table reminder_outbox add column if not exists claimed_until timestamp(6) with time zone;
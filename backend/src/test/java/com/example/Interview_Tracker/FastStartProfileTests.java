@@ -0,0 +1,79 @@
+package com.example.Interview_Tracker;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProcessor;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The fast-start profile turns on lazy initialization. @Scheduled methods are only picked
+ * up on beans that get created, so the jobs must stay eager (Boot's lazy-init exclude
+ * filter and their @Lazy(false)) while everything else waits for first use.
+ */
+@SpringBootTest(properties = {
+		"spring.mail.host=localhost",
+		"spring.mail.port=2525",
+		"spring.mail.username=test",
+		"spring.mail.password=test",
+		"app.mail.from=test@example.com"
+})
+@ActiveProfiles("fast-start")
+@EnabledIfEnvironmentVariable(named = "TEST_DATABASE_URL", matches = ".+")
+class FastStartProfileTests {
+
+	@Autowired
+	private ConfigurableApplicationContext context;
+
+	@Autowired
+	private ScheduledAnnotationBeanPostProcessor scheduling;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		PostgresApiTests.database(registry);
+	}
+
+	@Test
+	void everyScheduledMethodIsRegisteredUnderLazyInit() {
+		ConfigurableListableBeanFactory beans = context.getBeanFactory();
+		Set<String> declared = new HashSet<>();
+		for (String name : beans.getBeanDefinitionNames()) {
+			Class<?> type = beans.getType(name, false);
+			if (type == null || !type.getPackageName().startsWith("com.example.Interview_Tracker")) {
+				continue;
+			}
+			ReflectionUtils.doWithMethods(ClassUtils.getUserClass(type),
+					m -> declared.add(m.getDeclaringClass().getName() + "." + m.getName()),
+					m -> AnnotatedElementUtils.hasAnnotation(m, Scheduled.class));
+		}
+
+		// a scheduled method's task prints as its declaring class and method name
+		Set<String> registered = new HashSet<>();
+		for (ScheduledTask task : scheduling.getScheduledTasks()) {
+			registered.add(task.toString());
+		}
+
+		assertThat(declared).isNotEmpty();
+		assertThat(registered).containsAll(declared);
+	}
+
+	@Test
+	void otherBeansWaitForFirstUse() {
+		assertThat(context.getBeanFactory().containsSingleton("interviewExportService")).isFalse();
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.Interview_Tracker;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the migrations the way the app does (see spring.flyway in application.yml) on a
+ * scratch database per test: from empty, and over a schema left by the old ddl-auto=update.
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_DATABASE_URL", matches = ".+")
+class FlywayMigrationTests {
+
+	private final JdbcTemplate server = new JdbcTemplate(dataSource(System.getenv("TEST_DATABASE_URL")));
+	private final String database = "migration_test_" + UUID.randomUUID().toString().replace("-", "");
+	private JdbcTemplate jdbc;
+
+	@BeforeEach
+	void createDatabase() {
+		server.execute("create database " + database);
+		jdbc = new JdbcTemplate(dataSource(urlFor(database)));
+	}
+
+	@AfterEach
+	void dropDatabase() {
+		server.execute("drop database if exists " + database + " with (force)");
+	}
+
+	@Test
+	void migratesAnEmptyDatabaseOnceAndCreatesTheHotQueryIndexes() {
+		MigrateResult first = flyway().migrate();
+		MigrateResult second = flyway().migrate();
+
+		assertThat(first.success).isTrue();
+		assertThat(first.migrationsExecuted).isPositive();
+		assertThat(second.migrationsExecuted).isZero();
+		assertThat(jdbc.queryForList("select indexname from pg_indexes where tablename = 'interviews'", String.class))
+				.contains(
+						"idx_interviews_user_date_id",
+						"idx_interviews_user_company_date_id",
+						"idx_interviews_unsent_reminder_due",
+						"idx_interviews_user_seq",
+						"idx_interviews_user_search",
+						"uk_interviews_user_import_fingerprint");
+	}
+
+	@Test
+	void adoptsASchemaCreatedByDdlAutoUpdateAndKeepsItsRows() {
+		// roughly what Hibernate's ddl-auto=update left behind before migrations existed
+		jdbc.execute("create table users (id uuid not null primary key, email varchar(255) not null, "
+				+ "password_hash varchar(255) not null)");
+		jdbc.execute("create unique index uk_6dotkott2kjsp8vw4d0m25fb7 on users (email)");
+		jdbc.execute("create table interviews (id uuid not null primary key, user_id uuid not null references users (id), "
+				+ "company varchar(255) not null, role varchar(255) not null, "
+				+ "interview_date timestamp(6) with time zone not null, status varchar(255), notes varchar(2000))");
+		UUID user = UUID.randomUUID();
+		jdbc.update("insert into users (id, email, password_hash) values (?, 'old@example.com', 'x')", user);
+		jdbc.update("insert into interviews (id, user_id, company, role, interview_date, status) "
+				+ "values (?, ?, 'Acme', 'Engineer', '2026-03-02T09:00:00Z', 'Offer')", UUID.randomUUID(), user);
+
+		MigrateResult result = flyway().migrate();
+
+		assertThat(result.success).isTrue();
+		assertThat(jdbc.queryForObject("select data_version from users where id = ?", Long.class, user)).isZero();
+		assertThat(jdbc.queryForObject("select import_fingerprint from interviews where user_id = ?", String.class, user))
+				.hasSize(32);
+		assertThat(jdbc.queryForList("select dimension || ':' || bucket || '=' || count from interview_stats "
+				+ "where user_id = ? order by 1", String.class, user))
+				.containsExactly("COMPANY:Acme=1", "STATUS:Offer=1", "WEEK:2026-03-02=1");
+	}
+
+	private Flyway flyway() {
+		return Flyway.configure()
+				.dataSource(jdbc.getDataSource())
+				.locations("classpath:db/migration")
+				.baselineOnMigrate(true)
+				.baselineVersion("0")
+				.load();
+	}
+
+	// same server and credentials as TEST_DATABASE_URL, another database
+	private static String urlFor(String database) {
+		String url = System.getenv("TEST_DATABASE_URL");
+		int query = url.indexOf('?');
+		String base = query < 0 ? url : url.substring(0, query);
+		return base.substring(0, base.lastIndexOf('/') + 1) + database + (query < 0 ? "" : url.substring(query));
+	}
+
+	private static DriverManagerDataSource dataSource(String url) {
+		String user = System.getenv("TEST_DATABASE_USERNAME");
+		String password = System.getenv("TEST_DATABASE_PASSWORD");
+		return new DriverManagerDataSource(url,
+				user != null && !user.isBlank() ? user : "postgres",
+				password != null && !password.isBlank() ? password : "postgres");
+	}
+}
@@ -0,0 +1,74 @@
+package com.example.Interview_Tracker;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs bench/MixedLoad.java for a few seconds against the app on a real port, so the load
+ * harness keeps working as the API changes: every op in the mix must succeed.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.mail.host=localhost",
+		"spring.mail.port=2525",
+		"spring.mail.username=test",
+		"spring.mail.password=test",
+		"app.mail.from=test@example.com",
+		"app.rate-limit.enabled=false"
+})
+@EnabledIfEnvironmentVariable(named = "TEST_DATABASE_URL", matches = ".+")
+class LoadMixSmokeTests {
+
+	@LocalServerPort
+	private int port;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		PostgresApiTests.database(registry);
+	}
+
+	@Test
+	void everyOperationInTheMixSucceeds(@TempDir Path dir) throws Exception {
+		Path report = dir.resolve("load-report.txt");
+		String java = ProcessHandle.current().info().command().orElse("java");
+		Process p = new ProcessBuilder(java, "bench/MixedLoad.java",
+				"--base", "http://localhost:" + port,
+				"--users", "2",
+				"--interviews-per-user", "20",
+				"--concurrency", "2",
+				"--duration", "5",
+				"--warmup", "0",
+				// every op equally often, so a short run still covers each of them
+				"--mix", "list=1,get=1,create=1,update=1,delete=1,login=1,import=1",
+				"--report", report.toString())
+				.redirectErrorStream(true)
+				.redirectOutput(dir.resolve("out.txt").toFile())
+				.start();
+
+		assertThat(p.waitFor(120, TimeUnit.SECONDS)).isTrue();
+		assertThat(p.exitValue()).as(Files.readString(dir.resolve("out.txt"))).isZero();
+
+		// op, requests, errors, ...
+		List<String[]> rows = Files.readAllLines(report).stream()
+				.map(line -> line.trim().split("\\s+"))
+				.filter(cols -> cols.length >= 3 && List.of("login", "list", "get", "create", "update", "delete", "import")
+						.contains(cols[0]))
+				.toList();
+		assertThat(rows).hasSize(7);
+		for (String[] row : rows) {
+			assertThat(Long.parseLong(row[1])).as(row[0] + " requests").isPositive();
+			assertThat(Long.parseLong(row[2])).as(row[0] + " errors").isZero();
+		}
+	}
+}
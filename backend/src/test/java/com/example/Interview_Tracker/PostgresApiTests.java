@@ -0,0 +1,98 @@
+package com.example.Interview_Tracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Base for tests that go through the HTTP API against a real Postgres: the full context,
+ * Flyway migrations included, on the database in TEST_DATABASE_URL. Skipped without one;
+ * bench/api-test.sh starts a throwaway cluster and runs them.
+ *
+ * Every test registers its own user, so tests share the database without seeing each
+ * other's rows.
+ */
+@SpringBootTest(properties = {
+		"spring.mail.host=localhost",
+		"spring.mail.port=2525",
+		"spring.mail.username=test",
+		"spring.mail.password=test",
+		"app.mail.from=test@example.com",
+		"app.rate-limit.enabled=false"
+})
+@AutoConfigureMockMvc
+@EnabledIfEnvironmentVariable(named = "TEST_DATABASE_URL", matches = ".+")
+public abstract class PostgresApiTests {
+
+	@Autowired
+	protected MockMvc mvc;
+
+	@Autowired
+	protected ObjectMapper json;
+
+	@Autowired
+	protected JdbcTemplate jdbc;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", () -> System.getenv("TEST_DATABASE_URL"));
+		registry.add("spring.datasource.username", () -> env("TEST_DATABASE_USERNAME", "postgres"));
+		registry.add("spring.datasource.password", () -> env("TEST_DATABASE_PASSWORD", "postgres"));
+	}
+
+	// registers a fresh user and returns its bearer token
+	protected String register() throws Exception {
+		return register("user-" + UUID.randomUUID() + "@example.com");
+	}
+
+	protected String register(String email) throws Exception {
+		String body = json.writeValueAsString(Map.of(
+				"email", email,
+				"password", "password-123"));
+		String res = mvc.perform(post("/api/auth/register")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return "Bearer " + json.readTree(res).get("token").asText();
+	}
+
+	protected JsonNode create(String auth, String company, String role, Instant date) throws Exception {
+		String body = json.writeValueAsString(Map.of(
+				"company", company,
+				"role", role,
+				"interviewDate", date.toString(),
+				"status", "Scheduled"));
+		String res = mvc.perform(post("/api/interviews")
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return json.readTree(res);
+	}
+
+	protected JsonNode read(String content) throws Exception {
+		return json.readTree(content);
+	}
+
+	private static String env(String name, String fallback) {
+		String value = System.getenv(name);
+		return value != null && !value.isBlank() ? value : fallback;
+	}
+}
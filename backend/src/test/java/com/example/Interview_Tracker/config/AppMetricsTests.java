@@ -0,0 +1,28 @@
+package com.example.Interview_Tracker.config;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AppMetricsTests extends PostgresApiTests {
+
+	@Autowired
+	private MeterRegistry registry;
+
+	@Test
+	void cacheCountersAreGaugesNotAnApiEndpoint() throws Exception {
+		String auth = register();
+		double hits = registry.get("app.jwt.verified.cache.hits").gauge().value();
+
+		mvc.perform(get("/api/interviews").header("Authorization", auth)).andExpect(status().isOk());
+		mvc.perform(get("/api/interviews").header("Authorization", auth)).andExpect(status().isOk());
+
+		assertThat(registry.get("app.jwt.verified.cache.hits").gauge().value()).isGreaterThan(hits);
+		mvc.perform(get("/api/stats").header("Authorization", auth)).andExpect(status().isNotFound());
+	}
+}
@@ -0,0 +1,105 @@
+package com.example.Interview_Tracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfEnvironmentVariable(named = "TEST_DATABASE_URL", matches = ".+")
+class ConnectionPoolHealthIndicatorTests {
+
+	private final List<HikariDataSource> pools = new ArrayList<>();
+	private final ExecutorService waiters = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void close() {
+		waiters.shutdownNow();
+		pools.forEach(HikariDataSource::close);
+	}
+
+	@Test
+	void upWhileEveryPoolHasHeadroom() throws Exception {
+		HikariDataSource primary = pool("primary");
+		try (Connection c = primary.getConnection()) {
+			Health health = new ConnectionPoolHealthIndicator(Map.of("primaryDataSource", primary), 2).health();
+
+			assertThat(health.getStatus()).isEqualTo(Status.UP);
+			assertThat(health.getDetails()).containsKey("primaryDataSource");
+		}
+	}
+
+	@Test
+	void saturatedReplicaTakesTheInstanceOutOfService() throws Exception {
+		HikariDataSource primary = pool("primary");
+		HikariDataSource replica = pool("replica");
+		primary.getConnection().close();
+		ConnectionPoolHealthIndicator indicator = new ConnectionPoolHealthIndicator(
+				Map.of("primaryDataSource", primary, "replicaDataSource", replica), 2);
+
+		try (Connection held = replica.getConnection()) {
+			for (int i = 0; i < 2; i++) {
+				waiters.submit(() -> {
+					replica.getConnection().close();
+					return null;
+				});
+			}
+			awaitWaiting(replica, 2);
+
+			Health health = indicator.health();
+
+			assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+			assertThat(health.getDetails()).containsKeys("primaryDataSource", "replicaDataSource");
+		}
+	}
+
+	@Test
+	void poolsNotStartedYetAreReportedButDoNotFailReadiness() throws Exception {
+		HikariDataSource primary = pool("primary");
+		primary.getConnection().close();
+		HikariDataSource replica = new HikariDataSource();
+		pools.add(replica);
+
+		Health health = new ConnectionPoolHealthIndicator(
+				Map.of("primaryDataSource", primary, "replicaDataSource", replica), 2).health();
+
+		assertThat(health.getStatus()).isEqualTo(Status.UP);
+		assertThat(health.getDetails().get("replicaDataSource")).isEqualTo(Map.of("reason", "not started"));
+	}
+
+	private static void awaitWaiting(HikariDataSource pool, int threads) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (pool.getHikariPoolMXBean().getThreadsAwaitingConnection() < threads) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private HikariDataSource pool(String name) {
+		HikariDataSource ds = new HikariDataSource();
+		ds.setPoolName(name);
+		ds.setJdbcUrl(System.getenv("TEST_DATABASE_URL"));
+		ds.setUsername(env("TEST_DATABASE_USERNAME", "postgres"));
+		ds.setPassword(env("TEST_DATABASE_PASSWORD", "postgres"));
+		ds.setMaximumPoolSize(1);
+		ds.setConnectionTimeout(30_000);
+		pools.add(ds);
+		return ds;
+	}
+
+	private static String env(String name, String fallback) {
+		String value = System.getenv(name);
+		return value != null && !value.isBlank() ? value : fallback;
+	}
+}
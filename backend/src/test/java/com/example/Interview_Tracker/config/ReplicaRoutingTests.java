@@ -0,0 +1,82 @@
+package com.example.Interview_Tracker.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingTests {
+
+	private final ReadYourWrites readYourWrites = new ReadYourWrites(10_000);
+	private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(readYourWrites);
+
+	@AfterEach
+	void clear() {
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void onlyReadOnlyTransactionsGoToTheReplica() {
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+	}
+
+	@Test
+	void aUserWhoJustWroteReadsFromThePrimary() {
+		UUID writer = UUID.randomUUID();
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		signIn(UUID.randomUUID());
+		readYourWrites.wrote(writer);
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+
+		signIn(writer);
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+	}
+
+	@Test
+	void withoutAReplicaUrlTheReplicaIsThePrimaryPool() {
+		try (HikariDataSource primary = new HikariDataSource()) {
+			MockEnvironment env = new MockEnvironment()
+					.withProperty(DataSourceRoutingConfig.REPLICA_PREFIX + ".jdbc-url", " ");
+
+			assertThat(new DataSourceRoutingConfig().replicaDataSource(primary, env)).isSameAs(primary);
+		}
+	}
+
+	@Test
+	void theReplicaPoolIsBoundAtStartup() {
+		MockEnvironment env = new MockEnvironment()
+				.withProperty("app.datasource.replica.jdbc-url", "jdbc:postgresql://replica:5432/app")
+				.withProperty("app.datasource.replica.maximum-pool-size", "3");
+
+		try (HikariDataSource primary = new HikariDataSource();
+			 HikariDataSource replica = new DataSourceRoutingConfig().replicaDataSource(primary, env)) {
+			assertThat(replica).isNotSameAs(primary);
+			assertThat(replica.getJdbcUrl()).isEqualTo("jdbc:postgresql://replica:5432/app");
+			assertThat(replica.getMaximumPoolSize()).isEqualTo(3);
+			assertThat(replica.isReadOnly()).isTrue();
+		}
+	}
+
+	private static void signIn(UUID userId) {
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+	}
+}
@@ -0,0 +1,30 @@
+package com.example.Interview_Tracker.config;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebAsyncConfigTests extends PostgresApiTests {
+
+	@Autowired
+	@Qualifier("applicationTaskExecutor")
+	private ThreadPoolTaskExecutor applicationTaskExecutor;
+
+	@Autowired
+	private RequestMappingHandlerAdapter handlerAdapter;
+
+	@Test
+	void streamedResponsesRunOnTheBoundedPool() {
+		assertThat(applicationTaskExecutor.getMaxPoolSize()).isEqualTo(16);
+		assertThat(applicationTaskExecutor.getQueueCapacity()).isEqualTo(100);
+
+		assertThat(ReflectionTestUtils.getField(handlerAdapter, "taskExecutor")).isSameAs(applicationTaskExecutor);
+		assertThat(ReflectionTestUtils.getField(handlerAdapter, "asyncRequestTimeout")).isEqualTo(60000L);
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class CalendarFeedTests extends PostgresApiTests {
+
+	@Test
+	void feedServesTheTokenOwnersInterviewsWithoutALogin() throws Exception {
+		String auth = register();
+		create(auth, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS));
+
+		String feed = feed(path(auth));
+
+		assertThat(feed).startsWith("BEGIN:VCALENDAR\r\n").endsWith("END:VCALENDAR\r\n");
+		assertThat(feed).contains("SUMMARY:Acme — Engineer");
+	}
+
+	@Test
+	void unknownTokenIsNotFound() throws Exception {
+		mvc.perform(get("/api/calendar/feed/not-a-real-token.ics"))
+				.andExpect(status().isNotFound());
+	}
+
+	@Test
+	void rotatingTheTokenRevokesTheOldUrl() throws Exception {
+		String auth = register();
+		String old = path(auth);
+		feed(old);
+
+		String current = path(auth);
+
+		assertThat(current).isNotEqualTo(old);
+		mvc.perform(get(old)).andExpect(status().isNotFound());
+		assertThat(feed(current)).contains("BEGIN:VCALENDAR");
+	}
+
+	@Test
+	void issuingATokenNeedsALogin() throws Exception {
+		mvc.perform(post("/api/calendar/token"))
+				.andExpect(status().is4xxClientError());
+	}
+
+	private String path(String auth) throws Exception {
+		String res = mvc.perform(post("/api/calendar/token").header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return read(res).get("path").asText();
+	}
+
+	private String feed(String path) throws Exception {
+		MvcResult started = mvc.perform(get(path)).andReturn();
+		return mvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+	}
+}
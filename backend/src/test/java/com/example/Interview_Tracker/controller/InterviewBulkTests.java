@@ -0,0 +1,118 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InterviewBulkTests extends PostgresApiTests {
+
+	@Test
+	void bulkUpdateChangesTheSelectionAndMovesTheCounters() throws Exception {
+		String auth = register();
+		String a = create(auth, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS)).get("id").asText();
+		String b = create(auth, "Acme", "Manager", Instant.now().plus(2, ChronoUnit.DAYS)).get("id").asText();
+		create(auth, "Globex", "Engineer", Instant.now().plus(3, ChronoUnit.DAYS));
+
+		JsonNode res = bulkUpdate(auth, Map.of("where", Map.of("company", "acme"), "status", "Completed"));
+
+		assertThat(res.get("affected").asInt()).isEqualTo(2);
+		assertThat(interview(auth, a).get("status").asText()).isEqualTo("Completed");
+		assertThat(interview(auth, b).get("status").asText()).isEqualTo("Completed");
+		JsonNode byStatus = read(mvc.perform(get("/api/interviews/stats").header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString()).get("byStatus");
+		assertThat(byStatus.get("Completed").asLong()).isEqualTo(2);
+		assertThat(byStatus.get("Scheduled").asLong()).isEqualTo(1);
+	}
+
+	@Test
+	void emptySelectionIsRejected() throws Exception {
+		String auth = register();
+		create(auth, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS));
+
+		mvc.perform(patch("/api/interviews/bulk")
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json.writeValueAsString(Map.of("where", Map.of("ids", List.of()), "status", "Completed"))))
+				.andExpect(status().isBadRequest());
+		mvc.perform(delete("/api/interviews/bulk")
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{}"))
+				.andExpect(status().isBadRequest());
+
+		assertThat(interviews(auth)).hasSize(1);
+	}
+
+	@Test
+	void overlongStatusOrNotesAreRejected() throws Exception {
+		String auth = register();
+		String id = create(auth, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS)).get("id").asText();
+		JsonNode before = interview(auth, id);
+
+		for (Map<String, Object> body : List.of(
+				Map.of("where", Map.of("ids", List.of(id)), "status", "x".repeat(41)),
+				Map.<String, Object>of("where", Map.of("ids", List.of(id)), "notes", "x".repeat(2001)))) {
+			mvc.perform(patch("/api/interviews/bulk")
+							.header("Authorization", auth)
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(json.writeValueAsString(body)))
+					.andExpect(status().isBadRequest());
+		}
+
+		assertThat(interview(auth, id)).isEqualTo(before);
+	}
+
+	@Test
+	void foreignIdsAreLeftAlone() throws Exception {
+		String auth = register();
+		String other = register();
+		String mine = create(auth, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS)).get("id").asText();
+		String theirs = create(other, "Globex", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS)).get("id").asText();
+
+		JsonNode updated = bulkUpdate(auth, Map.of("where", Map.of("ids", List.of(mine, theirs)), "status", "Rejected"));
+		JsonNode deleted = read(mvc.perform(delete("/api/interviews/bulk")
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json.writeValueAsString(Map.of("ids", List.of(theirs)))))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+
+		assertThat(updated.get("affected").asInt()).isEqualTo(1);
+		assertThat(deleted.get("affected").asInt()).isZero();
+		assertThat(interview(other, theirs).get("status").asText()).isEqualTo("Scheduled");
+	}
+
+	private JsonNode bulkUpdate(String auth, Map<String, Object> body) throws Exception {
+		return read(mvc.perform(patch("/api/interviews/bulk")
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json.writeValueAsString(body)))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+	}
+
+	private JsonNode interview(String auth, String id) throws Exception {
+		return read(mvc.perform(get("/api/interviews/" + id).header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+	}
+
+	private JsonNode interviews(String auth) throws Exception {
+		return read(mvc.perform(get("/api/interviews").header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString()).get("items");
+	}
+}
@@ -0,0 +1,117 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InterviewChangesTests extends PostgresApiTests {
+
+	@Test
+	void changesReturnUpsertsAndTombstonesSinceTheToken() throws Exception {
+		String auth = register();
+		String kept = create(auth, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS)).get("id").asText();
+		String since = changes(auth, null, null).get("next").asText();
+
+		String deleted = create(auth, "Globex", "Engineer", Instant.now().plus(2, ChronoUnit.DAYS)).get("id").asText();
+		mvc.perform(put("/api/interviews/" + kept)
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json.writeValueAsString(Map.of(
+								"company", "Acme",
+								"role", "Staff Engineer",
+								"interviewDate", Instant.now().plus(1, ChronoUnit.DAYS).toString(),
+								"status", "Completed"))))
+				.andExpect(status().isOk());
+		mvc.perform(delete("/api/interviews/" + deleted).header("Authorization", auth))
+				.andExpect(status().isOk());
+
+		JsonNode res = changes(auth, since, null);
+
+		assertThat(ids(res.get("upserts"))).containsExactly(kept);
+		assertThat(res.get("upserts").get(0).get("role").asText()).isEqualTo("Staff Engineer");
+		assertThat(res.get("deletes")).extracting(JsonNode::asText).containsExactly(deleted);
+		assertThat(res.get("hasMore").asBoolean()).isFalse();
+
+		JsonNode after = changes(auth, res.get("next").asText(), null);
+		assertThat(after.get("upserts")).isEmpty();
+		assertThat(after.get("deletes")).isEmpty();
+	}
+
+	@Test
+	void smallPagesDeliverEveryChangeOnce() throws Exception {
+		String auth = register();
+		String since = changes(auth, null, null).get("next").asText();
+		List<String> created = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			created.add(create(auth, "Company " + i, "Engineer", Instant.now().plus(i + 1, ChronoUnit.DAYS))
+					.get("id").asText());
+		}
+
+		List<String> seen = new ArrayList<>();
+		JsonNode res;
+		do {
+			res = changes(auth, since, 1);
+			seen.addAll(ids(res.get("upserts")));
+			since = res.get("next").asText();
+		} while (res.get("hasMore").asBoolean());
+
+		assertThat(seen).containsExactlyElementsOf(created);
+	}
+
+	@Test
+	void otherUsersDeletesAreNotReported() throws Exception {
+		String auth = register();
+		String other = register();
+		String since = changes(auth, null, null).get("next").asText();
+		String theirs = create(other, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS)).get("id").asText();
+		mvc.perform(delete("/api/interviews/" + theirs).header("Authorization", other))
+				.andExpect(status().isOk());
+
+		JsonNode res = changes(auth, since, null);
+
+		assertThat(res.get("upserts")).isEmpty();
+		assertThat(res.get("deletes")).isEmpty();
+	}
+
+	@Test
+	void tamperedTokenIsRejected() throws Exception {
+		String auth = register();
+
+		mvc.perform(get("/api/interviews/changes")
+						.header("Authorization", auth)
+						.param("since", "not-a-token"))
+				.andExpect(status().isBadRequest());
+	}
+
+	private JsonNode changes(String auth, String since, Integer limit) throws Exception {
+		var req = get("/api/interviews/changes").header("Authorization", auth);
+		if (since != null) {
+			req.param("since", since);
+		}
+		if (limit != null) {
+			req.param("limit", limit.toString());
+		}
+		return read(mvc.perform(req)
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+	}
+
+	private static List<String> ids(JsonNode items) {
+		List<String> ids = new ArrayList<>();
+		items.forEach(item -> ids.add(item.get("id").asText()));
+		return ids;
+	}
+}
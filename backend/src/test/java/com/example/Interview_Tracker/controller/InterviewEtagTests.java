@@ -0,0 +1,76 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import com.example.Interview_Tracker.model.User;
+import com.example.Interview_Tracker.repo.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InterviewEtagTests extends PostgresApiTests {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void listAnswersAMatchingIfNoneMatchWith304UntilTheNextWrite() throws Exception {
+		String auth = register();
+		create(auth, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS));
+
+		MockHttpServletResponse first = mvc.perform(get("/api/interviews").header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+		String etag = first.getHeader("ETag");
+		assertThat(etag).isNotBlank();
+
+		mvc.perform(get("/api/interviews").header("Authorization", auth).header("If-None-Match", etag))
+				.andExpect(status().isNotModified());
+
+		create(auth, "Globex", "Engineer", Instant.now().plus(2, ChronoUnit.DAYS));
+
+		MockHttpServletResponse after = mvc.perform(get("/api/interviews")
+						.header("Authorization", auth)
+						.header("If-None-Match", etag))
+				.andExpect(status().isOk())
+				.andReturn().getResponse();
+		assertThat(after.getHeader("ETag")).isNotEqualTo(etag);
+		assertThat(read(after.getContentAsString()).get("items")).hasSize(2);
+	}
+
+	@Test
+	void itemAnswersAMatchingIfNoneMatchWith304() throws Exception {
+		String auth = register();
+		String id = create(auth, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS)).get("id").asText();
+
+		String etag = mvc.perform(get("/api/interviews/" + id).header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getHeader("ETag");
+
+		mvc.perform(get("/api/interviews/" + id).header("Authorization", auth).header("If-None-Match", etag))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	void savingAStaleUserKeepsTheBumpedVersion() throws Exception {
+		String email = "stale-" + UUID.randomUUID() + "@example.com";
+		register(email);
+		User stale = userRepository.findByEmail(email).orElseThrow();
+
+		// a write bumps the version after the User above was loaded
+		userRepository.bumpDataVersion(stale.getId());
+
+		// e.g. the password rehash on login
+		stale.setPasswordHash("rehashed-" + UUID.randomUUID());
+		userRepository.save(stale);
+
+		assertThat(userRepository.findDataVersion(stale.getId())).contains(1L);
+	}
+}
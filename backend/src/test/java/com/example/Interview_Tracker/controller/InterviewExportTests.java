@@ -0,0 +1,82 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InterviewExportTests extends PostgresApiTests {
+
+	@Test
+	void exportsEveryRowOnceAcrossBatches() throws Exception {
+		String auth = register();
+		// more than two batches, all on one date, so every batch boundary is a tie on interviewDate
+		List<Map<String, String>> rows = new ArrayList<>();
+		for (int i = 0; i < 1100; i++) {
+			rows.add(Map.of("company", "Company " + i, "role", "Engineer", "interviewDate", "2030-01-01T09:00:00Z"));
+		}
+		importJson(auth, rows);
+
+		String[] lines = export(auth, "csv").split("\r\n");
+
+		assertThat(lines[0]).isEqualTo("id,company,role,interviewDate,status,notes");
+		assertThat(lines).hasSize(1101);
+		assertThat(new HashSet<>(Arrays.asList(lines))).hasSize(1101);
+	}
+
+	@Test
+	void csvQuotesFormulaCellsAndReimportsThemUnchanged() throws Exception {
+		String auth = register();
+		importJson(auth, List.of(Map.of(
+				"company", "=HYPERLINK(\"http://evil.example\",\"Acme\")",
+				"role", "@lead",
+				"interviewDate", "2030-01-01T09:00:00Z",
+				"notes", "+1 call, then -2 days")));
+
+		String csv = export(auth, "csv");
+
+		assertThat(csv).contains(",\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"Acme\"\")\",'@lead,");
+		assertThat(csv).contains(",\"'+1 call, then -2 days\"");
+
+		String other = register();
+		mvc.perform(post("/api/interviews/import")
+						.header("Authorization", other)
+						.contentType("text/csv")
+						.content(csv))
+				.andExpect(status().isOk());
+		String roundTrip = export(other, "ndjson");
+		assertThat(read(roundTrip.trim()).get("company").asText()).isEqualTo("=HYPERLINK(\"http://evil.example\",\"Acme\")");
+		assertThat(read(roundTrip.trim()).get("role").asText()).isEqualTo("@lead");
+	}
+
+	private void importJson(String auth, List<Map<String, String>> rows) throws Exception {
+		mvc.perform(post("/api/interviews/import")
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json.writeValueAsString(rows)))
+				.andExpect(status().isOk());
+	}
+
+	private String export(String auth, String format) throws Exception {
+		MvcResult started = mvc.perform(get("/api/interviews/export")
+						.header("Authorization", auth)
+						.param("format", format))
+				.andReturn();
+		return mvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,179 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InterviewImportTests extends PostgresApiTests {
+
+	@Test
+	void csvImportStoresGoodRowsAndReportsEachBadOne() throws Exception {
+		String auth = register();
+		String csv = "company,role,interviewDate,status\n"
+				+ "Acme,Engineer,2026-03-01T09:30:00Z,Scheduled\n"
+				+ "x".repeat(121) + ",Engineer,2026-03-01T09:30:00Z,Scheduled\n"
+				+ "Globex,Engineer,,Scheduled\n"
+				+ "Initech,Engineer,soon,Scheduled\n"
+				+ "Umbrella,Engineer,2026-03-02T09:30:00Z," + "s".repeat(41) + "\n"
+				+ "Hooli,Engineer,2026-03-03T09:30:00Z,Offer\n";
+
+		JsonNode result = importCsv(auth, csv);
+
+		assertThat(result.get("inserted").asLong()).isEqualTo(2);
+		assertThat(result.get("rejected").asLong()).isEqualTo(4);
+		assertThat(result.get("rejects").findValuesAsText("row")).containsExactly("2", "3", "4", "5");
+		assertThat(companies(auth)).containsExactlyInAnyOrder("Acme", "Hooli");
+	}
+
+	@Test
+	void jsonImportReportsRejectsByPosition() throws Exception {
+		String auth = register();
+		String body = json.writeValueAsString(List.of(
+				Map.of("company", "Acme", "role", "Engineer", "interviewDate", "2026-03-01T09:30:00Z"),
+				Map.of("company", "Globex", "role", "Engineer"),
+				Map.of("company", "Hooli", "role", "Engineer", "interviewDate", "2026-03-01T09:30:00Z",
+						"notes", "n".repeat(2001))));
+
+		JsonNode result = read(mvc.perform(post("/api/interviews/import")
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(body))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+
+		assertThat(result.get("inserted").asLong()).isEqualTo(1);
+		assertThat(result.get("rejects").findValuesAsText("row")).containsExactly("2", "3");
+	}
+
+	@Test
+	void ndjsonImportRejectsAnOverlongLineAndKeepsReading() throws Exception {
+		String auth = register();
+		String ndjson = "{\"company\":\"Acme\",\"role\":\"Engineer\",\"interviewDate\":\"2026-03-01T09:30:00Z\"}\n"
+				+ "{\"company\":\"Globex\",\"role\":\"Engineer\",\"notes\":\"" + "n".repeat(70_000) + "\"}\n"
+				+ "{\"company\":\"Hooli\",\"role\":\"Engineer\",\"interviewDate\":\"2026-03-02T09:30:00Z\"}\r\n";
+
+		JsonNode result = read(mvc.perform(post("/api/interviews/import")
+						.header("Authorization", auth)
+						.contentType("application/x-ndjson")
+						.content(ndjson))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+
+		assertThat(result.get("imported").asLong()).isEqualTo(2);
+		assertThat(result.get("rejects").findValuesAsText("row")).containsExactly("2");
+		assertThat(result.get("rejects").findValuesAsText("reason")).containsExactly("Row exceeds 65536 characters.");
+		assertThat(companies(auth)).containsExactlyInAnyOrder("Acme", "Hooli");
+	}
+
+	@Test
+	void reImportingAFileAddsNothing() throws Exception {
+		String auth = register();
+		String csv = "company,role,interviewDate,status\n"
+				+ "Acme,Engineer,2026-03-01T09:30:00Z,Scheduled\n"
+				+ "Hooli,Engineer,2026-03-03T09:30:00Z,Offer\n";
+		importCsv(auth, csv);
+
+		JsonNode again = importCsv(auth, csv);
+
+		assertThat(again.get("inserted").asLong()).isZero();
+		assertThat(again.get("skipped").asLong()).isEqualTo(2);
+		assertThat(companies(auth)).containsExactlyInAnyOrder("Acme", "Hooli");
+	}
+
+	@Test
+	void editedRowsAreMatchedByWhatTheyNowSay() throws Exception {
+		String auth = register();
+		importCsv(auth, "company,role,interviewDate\n"
+				+ "Acme,Engineer,2026-03-01T09:30:00Z\n"
+				+ "Acme,Manager,2026-03-01T09:30:00Z\n");
+		JsonNode items = read(mvc.perform(get("/api/interviews").header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString()).get("items");
+		String engineer = null;
+		String manager = null;
+		for (JsonNode item : items) {
+			if (item.get("role").asText().equals("Engineer")) {
+				engineer = item.get("id").asText();
+			} else {
+				manager = item.get("id").asText();
+			}
+		}
+
+		edit(auth, engineer, "Staff Engineer");
+		// now says the same as the other row, which keeps the fingerprint
+		edit(auth, manager, "Staff Engineer");
+
+		JsonNode result = importCsv(auth, "company,role,interviewDate\n"
+				+ "Acme,Staff Engineer,2026-03-01T09:30:00Z\n"
+				+ "Acme,Engineer,2026-03-01T09:30:00Z\n");
+
+		assertThat(result.get("skipped").asLong()).isEqualTo(1);
+		assertThat(result.get("inserted").asLong()).isEqualTo(1);
+		assertThat(jdbc.queryForObject("select import_fingerprint from interviews where id = ?::uuid",
+				String.class, manager)).isNull();
+	}
+
+	@Test
+	void rowThatAppearedSinceTheLookupIsSkipped() throws Exception {
+		String email = "import-" + UUID.randomUUID() + "@example.com";
+		String auth = register(email);
+		UUID userId = jdbc.queryForObject("select id from users where email = ?", UUID.class, email);
+		String otherEmail = "import-" + UUID.randomUUID() + "@example.com";
+		String other = register(otherEmail);
+		importCsv(other, "company,role,interviewDate\nGlobex,Engineer,2026-03-01T09:30:00Z\n");
+		importCsv(auth, "company,role,interviewDate\nAcme,Engineer,2026-03-01T09:30:00Z\n");
+
+		// written behind the import's back (another instance, say): not in the user's filter
+		jdbc.update("insert into interviews (id, user_id, company, role, interview_date, status, notes, "
+				+ "reminder_offset_minutes, reminder_due_at, change_seq, import_fingerprint) "
+				+ "select gen_random_uuid(), ?, company, role, interview_date, status, notes, "
+				+ "reminder_offset_minutes, reminder_due_at, change_seq, import_fingerprint "
+				+ "from interviews where user_id = (select id from users where email = ?)", userId, otherEmail);
+
+		JsonNode result = importCsv(auth, "company,role,interviewDate\n"
+				+ "Globex,Engineer,2026-03-01T09:30:00Z\n"
+				+ "Hooli,Engineer,2026-03-02T09:30:00Z\n");
+
+		assertThat(result.get("inserted").asLong()).isEqualTo(1);
+		assertThat(result.get("skipped").asLong()).isEqualTo(1);
+		assertThat(companies(auth)).containsExactlyInAnyOrder("Acme", "Globex", "Hooli");
+	}
+
+	private void edit(String auth, String id, String role) throws Exception {
+		mvc.perform(put("/api/interviews/" + id)
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json.writeValueAsString(Map.of(
+								"company", "Acme",
+								"role", role,
+								"interviewDate", "2026-03-01T09:30:00Z"))))
+				.andExpect(status().isOk());
+	}
+
+	protected JsonNode importCsv(String auth, String csv) throws Exception {
+		return read(mvc.perform(post("/api/interviews/import")
+						.header("Authorization", auth)
+						.contentType("text/csv")
+						.content(csv))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+	}
+
+	protected List<String> companies(String auth) throws Exception {
+		JsonNode page = read(mvc.perform(get("/api/interviews").header("Authorization", auth).param("limit", "100"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+		return page.get("items").findValuesAsText("company");
+	}
+}
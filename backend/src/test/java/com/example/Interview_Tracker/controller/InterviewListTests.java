@@ -0,0 +1,77 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InterviewListTests extends PostgresApiTests {
+
+	@Test
+	void pagesThroughEqualDatesByIdWithoutSkippingOrRepeating() throws Exception {
+		String auth = register();
+		Instant same = Instant.now().plus(3, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+		List<String> created = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			created.add(create(auth, "Acme", "Engineer " + i, same).get("id").asText());
+		}
+		create(auth, "Acme", "Earlier", same.minus(1, ChronoUnit.DAYS));
+
+		List<String> seen = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			var req = get("/api/interviews").header("Authorization", auth).param("limit", "2");
+			if (cursor != null) {
+				req.param("cursor", cursor);
+			}
+			JsonNode page = read(mvc.perform(req)
+					.andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString());
+			page.get("items").forEach(i -> seen.add(i.get("id").asText()));
+			cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+			pages++;
+		} while (cursor != null);
+
+		assertThat(pages).isEqualTo(3);
+		assertThat(seen).hasSize(6).doesNotHaveDuplicates();
+		// ties on interview_date come out in id order (desc; lowercase hex sorts like uuid bytes)
+		assertThat(seen.subList(0, 5)).isEqualTo(created.stream().sorted(Comparator.reverseOrder()).toList());
+	}
+
+	@Test
+	void filtersByCompanyIgnoringCase() throws Exception {
+		String auth = register();
+		Instant date = Instant.now().plus(1, ChronoUnit.DAYS);
+		create(auth, "Acme", "Engineer", date);
+		create(auth, "Globex", "Engineer", date);
+
+		JsonNode page = read(mvc.perform(get("/api/interviews")
+						.header("Authorization", auth)
+						.param("company", " ACME "))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+
+		assertThat(page.get("items")).hasSize(1);
+		assertThat(page.get("items").get(0).get("company").asText()).isEqualTo("Acme");
+	}
+
+	@Test
+	void tamperedCursorIsABadRequest() throws Exception {
+		String auth = register();
+
+		mvc.perform(get("/api/interviews")
+						.header("Authorization", auth)
+						.param("cursor", "MjAyNi0wMy0wMVQwOTozMDowMFp8NDI"))
+				.andExpect(status().isBadRequest());
+	}
+}
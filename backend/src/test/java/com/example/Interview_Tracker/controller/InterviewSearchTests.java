@@ -0,0 +1,88 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InterviewSearchTests extends PostgresApiTests {
+
+	@Test
+	void companyMatchesRankAboveRoleAboveNotes() throws Exception {
+		String auth = register();
+		Instant when = Instant.now().plus(1, ChronoUnit.DAYS);
+		JsonNode inNotes = create(auth, "Initech", "Engineer", when);
+		withNotes(auth, inNotes, "referred by someone at Stripe");
+		create(auth, "Globex", "Stripe integrations", when.plus(1, ChronoUnit.DAYS));
+		create(auth, "Stripe", "Engineer", when.plus(2, ChronoUnit.DAYS));
+		create(auth, "Hooli", "Engineer", when.plus(3, ChronoUnit.DAYS));
+
+		assertThat(companies(search(auth, "stripe"))).containsExactly("Stripe", "Globex", "Initech");
+	}
+
+	@Test
+	void hyphenatedAndPrefixWordsMatch() throws Exception {
+		String auth = register();
+		Instant when = Instant.now().plus(1, ChronoUnit.DAYS);
+		create(auth, "Shopify", "E-commerce Engineer", when);
+		create(auth, "Vercel", "Node.js Developer", when);
+
+		assertThat(companies(search(auth, "e-commerce"))).containsExactly("Shopify");
+		assertThat(companies(search(auth, "ecommerce"))).isEmpty();
+		assertThat(companies(search(auth, "node.js"))).containsExactly("Vercel");
+		assertThat(companies(search(auth, "shop"))).containsExactly("Shopify");
+	}
+
+	@Test
+	void onlySearchesTheCallersInterviews() throws Exception {
+		String auth = register();
+		String other = register();
+		create(other, "Stripe", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS));
+
+		assertThat(search(auth, "stripe")).isEmpty();
+	}
+
+	@Test
+	void tsQuerySyntaxInTheQueryIsHarmless() throws Exception {
+		String auth = register();
+		create(auth, "Acme", "Engineer", Instant.now().plus(1, ChronoUnit.DAYS));
+
+		assertThat(companies(search(auth, "acme & !(|"))).containsExactly("Acme");
+		assertThat(search(auth, "&|!")).isEmpty();
+	}
+
+	private void withNotes(String auth, JsonNode interview, String notes) throws Exception {
+		mvc.perform(put("/api/interviews/" + interview.get("id").asText())
+						.header("Authorization", auth)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json.writeValueAsString(Map.of(
+								"company", interview.get("company").asText(),
+								"role", interview.get("role").asText(),
+								"interviewDate", interview.get("interviewDate").asText(),
+								"notes", notes))))
+				.andExpect(status().isOk());
+	}
+
+	private JsonNode search(String auth, String q) throws Exception {
+		return read(mvc.perform(get("/api/interviews/search").header("Authorization", auth).param("q", q))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+	}
+
+	private static List<String> companies(JsonNode items) {
+		List<String> companies = new ArrayList<>();
+		items.forEach(item -> companies.add(item.get("company").asText()));
+		return companies;
+	}
+}
@@ -0,0 +1,61 @@
+package com.example.Interview_Tracker.controller;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class InterviewStatsTests extends PostgresApiTests {
+
+	@Test
+	void writesKeepTheCountersCurrent() throws Exception {
+		String auth = register();
+		create(auth, "Acme", "Engineer", Instant.parse("2030-01-07T10:00:00Z"));
+		create(auth, "Acme", "Manager", Instant.parse("2030-01-09T10:00:00Z"));
+		String gone = create(auth, "Globex", "Engineer", Instant.parse("2030-01-14T10:00:00Z")).get("id").asText();
+		mvc.perform(delete("/api/interviews/" + gone).header("Authorization", auth))
+				.andExpect(status().isOk());
+
+		JsonNode stats = stats(auth);
+
+		assertThat(stats.get("byStatus").get("Scheduled").asLong()).isEqualTo(2);
+		assertThat(stats.get("byCompany").get("Acme").asLong()).isEqualTo(2);
+		assertThat(stats.get("byCompany").has("Globex")).isFalse();
+		assertThat(stats.get("byWeek").get("2030-01-07").asLong()).isEqualTo(2);
+		assertThat(stats.get("byWeek").has("2030-01-14")).isFalse();
+	}
+
+	@Test
+	void backfillMigrationRecountsUsersWithoutCounters() throws Exception {
+		String email = "stats-" + UUID.randomUUID() + "@example.com";
+		String auth = register(email);
+		create(auth, "Acme", "Engineer", Instant.parse("2030-01-07T10:00:00Z"));
+		create(auth, "Globex", "Engineer", Instant.parse("2030-01-08T10:00:00Z"));
+		JsonNode before = stats(auth);
+
+		// a user whose interviews were written before the counters existed
+		UUID userId = jdbc.queryForObject("select id from users where email = ?", UUID.class, email);
+		jdbc.update("delete from interview_stats where user_id = ?", userId);
+		assertThat(stats(auth).get("byCompany")).isEmpty();
+
+		new ResourceDatabasePopulator(new ClassPathResource("db/migration/V4__backfill_interview_stats.sql"))
+				.execute(jdbc.getDataSource());
+
+		assertThat(stats(auth)).isEqualTo(before);
+	}
+
+	private JsonNode stats(String auth) throws Exception {
+		return read(mvc.perform(get("/api/interviews/stats").header("Authorization", auth))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString());
+	}
+}
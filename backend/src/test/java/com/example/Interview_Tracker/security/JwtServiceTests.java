@@ -0,0 +1,66 @@
+package com.example.Interview_Tracker.security;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTests {
+
+	private final JwtService jwt = new JwtService();
+
+	@BeforeEach
+	void init() {
+		ReflectionTestUtils.setField(jwt, "secret", "test-secret-that-is-at-least-32-chars-long");
+		ReflectionTestUtils.setField(jwt, "expirationMs", 60_000L);
+		ReflectionTestUtils.setField(jwt, "verifiedCacheSize", 100);
+		jwt.init();
+	}
+
+	@Test
+	void verifiesOnceThenServesTheTokenFromCache() {
+		UUID userId = UUID.randomUUID();
+		String token = jwt.generateToken(userId, "a@example.com");
+
+		assertThat(jwt.getUserId(token)).isEqualTo(userId);
+		assertThat(jwt.getUserId(token)).isEqualTo(userId);
+
+		assertThat(jwt.verifiedCacheStats())
+				.containsEntry("misses", 1L)
+				.containsEntry("hits", 1L)
+				.containsEntry("size", 1L);
+	}
+
+	@Test
+	void tamperedTokenIsStillRejectedAfterTheOriginalWasCached() {
+		String token = jwt.generateToken(UUID.randomUUID(), "a@example.com");
+		jwt.getUserId(token);
+
+		String tampered = token.substring(0, token.length() - 2)
+				+ (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThatThrownBy(() -> jwt.getUserId(tampered)).isInstanceOf(JwtException.class);
+	}
+
+	@Test
+	void cacheForgetsTokensAtTheirExpiryAndStaysBounded() {
+		VerifiedTokenCache cache = new VerifiedTokenCache(10);
+		UUID userId = UUID.randomUUID();
+		String key = cache.keyFor("token");
+
+		assertThat(key).doesNotContain("token");
+		cache.put(key, userId, 2_000, 1_000);
+		assertThat(cache.get(key, 1_999)).isEqualTo(userId);
+		assertThat(cache.get(key, 2_000)).isNull();
+
+		for (int i = 0; i < 50; i++) {
+			cache.put(cache.keyFor("t" + i), userId, 10_000, 1_000);
+		}
+		assertThat(cache.size()).isLessThanOrEqualTo(10);
+	}
+}
@@ -0,0 +1,94 @@
+package com.example.Interview_Tracker.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTests {
+
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+
+	// a bcrypt stand-in that holds its thread until released
+	private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+		@Override
+		public String encode(CharSequence raw) {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "hash:" + raw;
+		}
+
+		@Override
+		public boolean matches(CharSequence raw, String hash) {
+			return hash.equals(encode(raw));
+		}
+	};
+
+	@AfterEach
+	void shutdown() {
+		release.countDown();
+		pool.shutdown();
+	}
+
+	@Test
+	void shedsLoadWith503WhenThePoolIsFull() throws Exception {
+		PasswordHasher hasher = hasher(0, 10_000);
+
+		CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> hasher.encode("pw"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> hasher.encode("other"))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("hash:pw");
+		assertThat(hasher.stats()).containsEntry("rejected", 1L).containsEntry("hashes", 1L);
+	}
+
+	@Test
+	void givesUpOnAHashThatTakesTooLong() {
+		PasswordHasher hasher = hasher(1, 50);
+
+		assertThatThrownBy(() -> hasher.encode("pw"))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+	}
+
+	@Test
+	void flagsHashesMadeWithAnotherCost() {
+		PasswordHasher hasher = hasher(1, 1000);
+
+		assertThat(hasher.needsRehash("$2a$10$abcdefghijklmnopqrstuv")).isFalse();
+		assertThat(hasher.needsRehash("$2a$12$abcdefghijklmnopqrstuv")).isTrue();
+		assertThat(hasher.needsRehash("not-bcrypt")).isFalse();
+	}
+
+	private PasswordHasher hasher(int queueCapacity, long timeoutMs) {
+		pool.setCorePoolSize(1);
+		pool.setMaxPoolSize(1);
+		pool.setQueueCapacity(queueCapacity);
+		pool.initialize();
+
+		PasswordHasher hasher = new PasswordHasher(slowEncoder, pool);
+		ReflectionTestUtils.setField(hasher, "bcryptCost", 10);
+		ReflectionTestUtils.setField(hasher, "timeoutMs", timeoutMs);
+		return hasher;
+	}
+}
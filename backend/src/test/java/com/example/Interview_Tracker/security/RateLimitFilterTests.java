@@ -0,0 +1,46 @@
+package com.example.Interview_Tracker.security;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class RateLimitFilterTests extends PostgresApiTests {
+
+	@DynamicPropertySource
+	static void rateLimited(DynamicPropertyRegistry registry) {
+		registry.add("app.rate-limit.enabled", () -> "true");
+	}
+
+	@Test
+	void loginOverTheLimitGets429WithARetryAfterTheBrowserCanRead() throws Exception {
+		String email = "limited-" + UUID.randomUUID() + "@example.com";
+		register(email);
+		String login = json.writeValueAsString(Map.of("email", email, "password", "password-123"));
+
+		MvcResult last = null;
+		// the login route allows a burst of 10 per client IP
+		for (int i = 0; i < 11; i++) {
+			// routes match on the servlet path, which MockMvc leaves empty unless told
+			last = mvc.perform(post("/api/auth/login")
+							.servletPath("/api/auth/login")
+							.header(HttpHeaders.ORIGIN, "http://localhost:5173")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(login))
+					.andReturn();
+		}
+
+		assertThat(last.getResponse().getStatus()).isEqualTo(429);
+		assertThat(last.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isNotBlank();
+		assertThat(last.getResponse().getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS)).contains("Retry-After");
+	}
+}
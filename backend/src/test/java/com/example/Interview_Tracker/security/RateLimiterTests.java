@@ -0,0 +1,110 @@
+package com.example.Interview_Tracker.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTests {
+
+	// 5 tokens, one back every second
+	private static final long INTERVAL = TimeUnit.SECONDS.toNanos(1);
+	private static final long BURST = INTERVAL * 4;
+
+	private final RateLimiter limiter = new RateLimiter(new RateLimitProperties(true, "", 500000, List.of()));
+
+	@Test
+	void allowsTheBurstThenWaitsForTheRefill() {
+		long now = 1_000_000_000L;
+		for (int i = 0; i < 5; i++) {
+			assertThat(limiter.tryAcquire("user", INTERVAL, BURST, now)).isZero();
+		}
+		assertThat(limiter.tryAcquire("user", INTERVAL, BURST, now)).isEqualTo(INTERVAL);
+		assertThat(limiter.tryAcquire("other", INTERVAL, BURST, now)).isZero();
+
+		assertThat(limiter.tryAcquire("user", INTERVAL, BURST, now + INTERVAL)).isZero();
+		assertThat(limiter.tryAcquire("user", INTERVAL, BURST, now + INTERVAL)).isPositive();
+	}
+
+	@Test
+	void concurrentCallersShareOneBucket() throws Exception {
+		long now = System.nanoTime();
+		AtomicInteger granted = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		for (int t = 0; t < 8; t++) {
+			pool.execute(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i = 0; i < 100; i++) {
+					if (limiter.tryAcquire("ip:10.0.0.1", INTERVAL, BURST, now) == 0) {
+						granted.incrementAndGet();
+					}
+				}
+			});
+		}
+		start.countDown();
+		pool.shutdown();
+		assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(granted).hasValue(5);
+		assertThat(limiter.stats().get("rejected")).isEqualTo(795L);
+	}
+
+	@Test
+	void fullStripeEvictsTheBucketClosestToFullInsteadOfFailingOpen() {
+		// two buckets per stripe
+		RateLimiter small = new RateLimiter(new RateLimitProperties(true, "", 128, List.of()));
+		List<String> keys = sameStripe(3);
+		String hot = keys.get(0);
+		String warm = keys.get(1);
+		String fresh = keys.get(2);
+		long now = System.nanoTime();
+		for (int i = 0; i < 5; i++) {
+			small.tryAcquire(hot, INTERVAL, BURST, now);
+		}
+		small.tryAcquire(warm, INTERVAL, BURST, now);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(small.tryAcquire(fresh, INTERVAL, BURST, now)).isZero();
+		}
+		assertThat(small.tryAcquire(fresh, INTERVAL, BURST, now)).isPositive();
+		assertThat(small.tryAcquire(hot, INTERVAL, BURST, now)).isPositive();
+		assertThat(small.stats().get("evicted")).isEqualTo(1L);
+		assertThat(small.stats().get("keys")).isEqualTo(2L);
+	}
+
+	@Test
+	void sweepDropsOnlyRefilledBuckets() {
+		long now = System.nanoTime();
+		limiter.tryAcquire("idle", 1, 0, now - TimeUnit.SECONDS.toNanos(1));
+		limiter.tryAcquire("busy", INTERVAL, BURST, now);
+
+		limiter.sweep();
+
+		assertThat(limiter.stats().get("keys")).isEqualTo(1L);
+	}
+
+	// keys that land in the same stripe as "key-0"
+	private static List<String> sameStripe(int n) {
+		List<String> keys = new ArrayList<>();
+		int stripe = ("key-0".hashCode() & 0x7fffffff) % 64;
+		for (int i = 0; keys.size() < n; i++) {
+			String key = "key-" + i;
+			if ((key.hashCode() & 0x7fffffff) % 64 == stripe) {
+				keys.add(key);
+			}
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.Interview_Tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvImportRowReaderTests {
+
+	private static CsvImportRowReader reader(String csv) throws Exception {
+		return new CsvImportRowReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	void mapsHeadersAndHandlesQuotedFields() throws Exception {
+		CsvImportRowReader r = reader("\uFEFFCompany,Role,Interview Date,Notes\r\n"
+				+ "Acme,\"Engineer, Sr\",2026-01-01T00:00:00Z,\"line1\nline2 \"\"quoted\"\"\"\r\n"
+				+ "\r\n"
+				+ "Foo,Bar\n");
+
+		ImportRowReader.Row first = r.next();
+		assertThat(first.number()).isEqualTo(1);
+		assertThat(first.data().getCompany()).isEqualTo("Acme");
+		assertThat(first.data().getRole()).isEqualTo("Engineer, Sr");
+		assertThat(first.data().getInterviewDate()).isEqualTo("2026-01-01T00:00:00Z");
+		assertThat(first.data().getNotes()).isEqualTo("line1\nline2 \"quoted\"");
+
+		ImportRowReader.Row second = r.next();
+		assertThat(second.number()).isEqualTo(2);
+		assertThat(second.data().getCompany()).isEqualTo("Foo");
+		assertThat(second.data().getInterviewDate()).isNull();
+
+		assertThat(r.next()).isNull();
+	}
+
+	@Test
+	void rejectsOversizedRowAndContinues() throws Exception {
+		CsvImportRowReader r = reader("company,role\n" + "x".repeat(70_000) + ",r\nok,r\n");
+
+		assertThat(r.next().error()).isNotNull();
+		assertThat(r.next().data().getCompany()).isEqualTo("ok");
+	}
+
+	@Test
+	void dropsTheQuoteTheExportPutsBeforeFormulas() throws Exception {
+		CsvImportRowReader r = reader("company,role,notes\n'=1+2,'-lead,'it's fine\n");
+
+		ImportRowReader.Row row = r.next();
+		assertThat(row.data().getCompany()).isEqualTo("=1+2");
+		assertThat(row.data().getRole()).isEqualTo("-lead");
+		assertThat(row.data().getNotes()).isEqualTo("'it's fine");
+	}
+}
@@ -0,0 +1,149 @@
+package com.example.Interview_Tracker.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailServiceTests {
+
+	private FakeSmtpServer smtp;
+	private EmailService emailService;
+
+	@BeforeEach
+	void start() throws IOException {
+		smtp = new FakeSmtpServer();
+
+		JavaMailSenderImpl sender = new JavaMailSenderImpl();
+		sender.setHost("localhost");
+		sender.setPort(smtp.port());
+		emailService = new EmailService(sender, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(emailService, "fromEmail", "reminders@example.com");
+	}
+
+	@AfterEach
+	void stop() throws IOException {
+		smtp.close();
+	}
+
+	@Test
+	void batchGoesOutOverOneConnection() {
+		List<EmailService.Outgoing> batch = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			batch.add(new EmailService.Outgoing("user" + i + "@example.com", "Reminder " + i, "body " + i));
+		}
+
+		assertThat(emailService.sendAll(batch)).isEmpty();
+
+		assertThat(smtp.connections.get()).isEqualTo(1);
+		assertThat(smtp.messages).hasSize(25);
+	}
+
+	@Test
+	void rejectedRecipientFailsOnlyItsOwnMessage() {
+		Map<Integer, Exception> failed = emailService.sendAll(List.of(
+				new EmailService.Outgoing("a@example.com", "A", "a"),
+				new EmailService.Outgoing("rejected@example.com", "B", "b"),
+				new EmailService.Outgoing("c@example.com", "C", "c")));
+
+		assertThat(failed).containsOnlyKeys(1);
+		assertThat(smtp.messages).hasSize(2);
+		assertThat(smtp.connections.get()).isEqualTo(1);
+	}
+
+	// just enough SMTP for JavaMail: no TLS, no auth; RCPT to rejected@... gets a 550
+	static final class FakeSmtpServer implements AutoCloseable {
+
+		final AtomicInteger connections = new AtomicInteger();
+		final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+		private final ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+
+		FakeSmtpServer() throws IOException {
+			Thread acceptor = new Thread(this::accept, "fake-smtp");
+			acceptor.setDaemon(true);
+			acceptor.start();
+		}
+
+		int port() {
+			return server.getLocalPort();
+		}
+
+		private void accept() {
+			while (!server.isClosed()) {
+				try {
+					Socket client = server.accept();
+					connections.incrementAndGet();
+					Thread session = new Thread(() -> session(client), "fake-smtp-session");
+					session.setDaemon(true);
+					session.start();
+				} catch (IOException e) {
+					return;
+				}
+			}
+		}
+
+		private void session(Socket client) {
+			try (client;
+				 BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+				 Writer out = new OutputStreamWriter(client.getOutputStream(), StandardCharsets.UTF_8)) {
+				reply(out, "220 localhost fake ESMTP");
+				String line;
+				while ((line = in.readLine()) != null) {
+					String command = line.toUpperCase();
+					if (command.startsWith("EHLO") || command.startsWith("HELO")) {
+						reply(out, "250 localhost");
+					} else if (command.startsWith("RCPT") && command.contains("REJECTED@")) {
+						reply(out, "550 no such user");
+					} else if (command.startsWith("MAIL") || command.startsWith("RCPT")
+							|| command.startsWith("RSET") || command.startsWith("NOOP")) {
+						reply(out, "250 OK");
+					} else if (command.startsWith("DATA")) {
+						reply(out, "354 end with .");
+						StringBuilder data = new StringBuilder();
+						while ((line = in.readLine()) != null && !line.equals(".")) {
+							data.append(line).append('\n');
+						}
+						messages.add(data.toString());
+						reply(out, "250 OK");
+					} else if (command.startsWith("QUIT")) {
+						reply(out, "221 bye");
+						return;
+					} else {
+						reply(out, "502 not implemented");
+					}
+				}
+			} catch (IOException e) {
+				// client went away
+			}
+		}
+
+		private static void reply(Writer out, String line) throws IOException {
+			out.write(line + "\r\n");
+			out.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			server.close();
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.Interview_Tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportFingerprintTests {
+
+	@Test
+	void ignoresCaseWhitespaceAndSubSecondsAndMatchesTheMigration() {
+		String fp = ImportFingerprint.of(" Acme ", "Engineer, Sr", Instant.parse("2026-01-01T00:00:00.250Z"));
+
+		// left(encode(sha256('acme' || chr(31) || 'engineer, sr' || chr(31) || '1767225600'), 'hex'), 32)
+		assertThat(fp).isEqualTo("2b9b5cb79919e0d44f69bba45a34bd94");
+		assertThat(ImportFingerprint.of("ACME", "engineer, sr", Instant.parse("2026-01-01T00:00:00Z"))).isEqualTo(fp);
+		assertThat(ImportFingerprint.of("Acme", "Engineer", Instant.parse("2026-01-01T00:00:00Z"))).isNotEqualTo(fp);
+	}
+
+	@Test
+	void filterHasNoFalseNegatives() {
+		FingerprintFilter filter = new FingerprintFilter(1024);
+		for (int i = 0; i < 1024; i++) {
+			filter.add(ImportFingerprint.of("c" + i, "r", Instant.EPOCH));
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < 1024; i++) {
+			assertThat(filter.mightContain(ImportFingerprint.of("c" + i, "r", Instant.EPOCH))).isTrue();
+			if (filter.mightContain(ImportFingerprint.of("other" + i, "r", Instant.EPOCH))) {
+				falsePositives++;
+			}
+		}
+		assertThat(falsePositives).isLessThan(50);
+		assertThat(filter.full()).isFalse();
+	}
+}
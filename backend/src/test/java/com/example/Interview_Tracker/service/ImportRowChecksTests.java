@@ -0,0 +1,58 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewImportRowDto;
+import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImportRowChecksTests {
+
+	@Test
+	void acceptsRowsWithinTheColumnLimits() {
+		InterviewImportRowDto r = row("a".repeat(120), "2026-03-01T09:30:00Z");
+		r.setNotes("n".repeat(2000));
+		// 120 characters, 240 UTF-16 units
+		r.setRole("😀".repeat(120));
+
+		assertThat(InterviewService.importProblem(r)).isNull();
+	}
+
+	@Test
+	void reportsWhatIsWrongWithARow() {
+		assertThat(InterviewService.importProblem(row(" ", "2026-03-01T09:30:00Z"))).contains("company and role");
+		assertThat(InterviewService.importProblem(row("Acme", null))).contains("interviewDate is required");
+		assertThat(InterviewService.importProblem(row("Acme", "next tuesday"))).contains("ISO-8601");
+		assertThat(InterviewService.importProblem(row("a".repeat(121), "2026-03-01T09:30:00Z"))).contains("company");
+
+		InterviewImportRowDto longStatus = row("Acme", "2026-03-01T09:30:00Z");
+		longStatus.setStatus("s".repeat(41));
+		assertThat(InterviewService.importProblem(longStatus)).contains("status");
+
+		InterviewImportRowDto longNotes = row("Acme", "2026-03-01T09:30:00Z");
+		longNotes.setNotes("n".repeat(2001));
+		assertThat(InterviewService.importProblem(longNotes)).contains("notes");
+	}
+
+	@Test
+	void readsDatesWithoutAnOffsetAsUtc() {
+		InterviewImportRowDto r = row(" Acme ", "2026-02-19T18:30:00");
+
+		assertThat(InterviewService.importProblem(r)).isNull();
+		Interview i = InterviewService.toImported(new User(), r, 7L);
+		assertThat(i.getCompany()).isEqualTo("Acme");
+		assertThat(i.getInterviewDate()).isEqualTo(Instant.parse("2026-02-19T18:30:00Z"));
+		assertThat(i.getStatus()).isEqualTo("Scheduled");
+	}
+
+	private static InterviewImportRowDto row(String company, String date) {
+		InterviewImportRowDto r = new InterviewImportRowDto();
+		r.setCompany(company);
+		r.setRole("Engineer");
+		r.setInterviewDate(date);
+		return r;
+	}
+}
@@ -0,0 +1,55 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewDtos;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterviewCacheTests {
+
+	private final InterviewCache cache = new InterviewCache(100, 16, 256, 300);
+	private final UUID user = UUID.randomUUID();
+
+	@Test
+	void servesAnEntryOnlyToCallersAtItsVersionOrOlder() {
+		InterviewDtos.InterviewPage v1 = page("v1");
+		InterviewDtos.InterviewPage v2 = page("v2");
+
+		assertThat(cache.page(user, 1, "q", () -> v1)).isSameAs(v1);
+		assertThat(cache.page(user, 1, "q", () -> page("unused"))).isSameAs(v1);
+
+		// a write committed and this caller read its version, but the invalidation hasn't run yet
+		assertThat(cache.page(user, 2, "q", () -> v2)).isSameAs(v2);
+
+		// a caller that read the version before the write may be handed the newer page
+		assertThat(cache.page(user, 1, "q", () -> page("unused"))).isSameAs(v2);
+		assertThat(cache.stats()).containsEntry("hits", 2L).containsEntry("misses", 2L);
+	}
+
+	@Test
+	void invalidationDropsTheUsersPagesAndTheTouchedItem() {
+		UUID touched = UUID.randomUUID();
+		UUID other = UUID.randomUUID();
+		cache.page(user, 1, "q", () -> page("a"));
+		cache.item(user, 1, touched, InterviewDtos.InterviewResponse::new);
+		InterviewDtos.InterviewResponse kept = cache.item(user, 1, other, InterviewDtos.InterviewResponse::new);
+
+		cache.invalidate(user, touched);
+
+		InterviewDtos.InterviewPage reloaded = page("b");
+		assertThat(cache.page(user, 1, "q", () -> reloaded)).isSameAs(reloaded);
+		assertThat(cache.item(user, 1, other, InterviewDtos.InterviewResponse::new)).isSameAs(kept);
+		assertThat(cache.item(user, 1, touched, InterviewDtos.InterviewResponse::new)).isNotNull();
+		assertThat(cache.stats()).containsEntry("invalidations", 1L);
+	}
+
+	private static InterviewDtos.InterviewPage page(String cursor) {
+		InterviewDtos.InterviewPage p = new InterviewDtos.InterviewPage();
+		p.setItems(List.of());
+		p.setNextCursor(cursor);
+		return p;
+	}
+}
@@ -0,0 +1,45 @@
+package com.example.Interview_Tracker.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InterviewCursorTests {
+
+	@Test
+	void roundTripsThroughAnUrlSafeToken() {
+		InterviewCursor cursor = new InterviewCursor(
+				Instant.parse("2026-03-01T09:30:00.123456Z"), UUID.randomUUID());
+
+		String token = cursor.encode();
+
+		assertThat(token).matches("[A-Za-z0-9_-]+");
+		assertThat(InterviewCursor.decode(token)).isEqualTo(cursor);
+	}
+
+	@Test
+	void rejectsTamperedTokensAsBadRequest() {
+		String valid = new InterviewCursor(Instant.now(), UUID.randomUUID()).encode();
+		String noSeparator = encode("2026-03-01T09:30:00Z");
+		String badDate = encode("yesterday|" + UUID.randomUUID());
+		String badId = encode("2026-03-01T09:30:00Z|42");
+
+		for (String token : new String[]{"not base64!", valid.substring(0, valid.length() / 2), noSeparator, badDate, badId}) {
+			assertThatThrownBy(() -> InterviewCursor.decode(token))
+					.isInstanceOfSatisfying(ResponseStatusException.class,
+							e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+		}
+	}
+
+	private static String encode(String raw) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,80 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.dto.InterviewDtos;
+import com.example.Interview_Tracker.dto.InterviewImportRowDto;
+import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterviewMappingTests {
+
+	private static final User USER = User.builder().id(new UUID(1L, 1L)).email("a@example.com").build();
+
+	@Test
+	void toResponseCopiesEveryField() {
+		Interview i = Interview.builder()
+				.id(new UUID(7L, 1L))
+				.user(USER)
+				.company("Acme")
+				.role("Engineer")
+				.interviewDate(Instant.parse("2026-03-01T09:30:00Z"))
+				.status("Offer")
+				.notes("bring portfolio")
+				.reminderOffsetMinutes(60)
+				.build();
+
+		InterviewDtos.InterviewResponse r = InterviewService.toResponse(i);
+
+		assertThat(r.getId()).isEqualTo(i.getId());
+		assertThat(r.getCompany()).isEqualTo("Acme");
+		assertThat(r.getRole()).isEqualTo("Engineer");
+		assertThat(r.getInterviewDate()).isEqualTo(i.getInterviewDate());
+		assertThat(r.getStatus()).isEqualTo("Offer");
+		assertThat(r.getNotes()).isEqualTo("bring portfolio");
+		assertThat(r.getReminderOffsetMinutes()).isEqualTo(60);
+	}
+
+	@Test
+	void toImportedTrimsAndFillsDefaults() {
+		InterviewImportRowDto row = new InterviewImportRowDto();
+		row.setCompany("  Acme ");
+		row.setRole(" Engineer");
+		row.setInterviewDate(" 2026-03-01T09:30:00Z ");
+		row.setStatus(" ");
+
+		Interview i = InterviewService.toImported(USER, row, 5);
+
+		assertThat(i.getCompany()).isEqualTo("Acme");
+		assertThat(i.getRole()).isEqualTo("Engineer");
+		assertThat(i.getInterviewDate()).isEqualTo(Instant.parse("2026-03-01T09:30:00Z"));
+		assertThat(i.getStatus()).isEqualTo("Scheduled");
+		assertThat(i.getNotes()).isEmpty();
+		assertThat(i.getChangeSeq()).isEqualTo(5);
+		assertThat(i.getImportFingerprint())
+				.isEqualTo(ImportFingerprint.of("acme", "ENGINEER", Instant.parse("2026-03-01T09:30:00Z")));
+	}
+
+	@Test
+	void reminderTextNamesTheInterviewAndOnlyListsNotesWhenThereAreAny() {
+		Interview i = Interview.builder()
+				.company("Acme")
+				.role("Engineer")
+				.interviewDate(Instant.parse("2026-03-01T09:30:00Z"))
+				.notes(" ")
+				.build();
+
+		assertThat(ReminderJob.reminderSubject(i)).isEqualTo("Interview Reminder: Acme — Engineer");
+		assertThat(ReminderJob.reminderBody(i))
+				.contains("Company: Acme\n", "Role: Engineer\n")
+				.doesNotContain("Notes:")
+				.endsWith("— Interview Tracker");
+
+		i.setNotes("bring portfolio");
+		assertThat(ReminderJob.reminderBody(i)).contains("Notes:\nbring portfolio\n");
+	}
+}
@@ -0,0 +1,212 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.PostgresApiTests;
+import com.example.Interview_Tracker.model.Interview;
+import com.example.Interview_Tracker.repo.InterviewRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderJobTests extends PostgresApiTests {
+
+	@Autowired
+	private ReminderJob reminderJob;
+
+	@Autowired
+	private ReminderTimer timer;
+
+	@Autowired
+	private InterviewRepository interviewRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Test
+	void interviewAlreadyInTheOutboxDoesNotHoldBackTheBatch() throws Exception {
+		String email = "reminder-" + UUID.randomUUID() + "@example.com";
+		register(email);
+		UUID userId = jdbc.queryForObject("select id from users where email = ?", UUID.class, email);
+		UUID queued = insertDue(userId, "Acme");
+		UUID fresh = insertDue(userId, "Globex");
+		jdbc.update("insert into reminder_outbox (id, interview_id, recipient, subject, body, status, attempts, "
+				+ "next_attempt_at, created_at, sent_at) values (gen_random_uuid(), ?, ?, 'earlier', 'earlier', "
+				+ "'SENT', 1, now(), now(), now())", queued, email);
+
+		// the same due time, so the dispatcher claims both in one transaction
+		Instant due = Instant.now().plusMillis(300);
+		timer.schedule(queued, due);
+		timer.schedule(fresh, due);
+
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (unsent(queued, fresh) > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+
+		assertThat(unsent(queued, fresh)).isZero();
+		assertThat(jdbc.queryForObject("select subject from reminder_outbox where interview_id = ?", String.class, queued))
+				.isEqualTo("earlier");
+		assertThat(jdbc.queryForObject("select count(*) from reminder_outbox where interview_id = ?", Integer.class, fresh))
+				.isEqualTo(1);
+	}
+
+	@Test
+	void digestKeyedOnAnInterviewAlreadyInTheOutboxStillGoesOut() throws Exception {
+		String email = "reminder-" + UUID.randomUUID() + "@example.com";
+		register(email);
+		UUID userId = jdbc.queryForObject("select id from users where email = ?", UUID.class, email);
+		// the earlier of the two, so it would be the digest's key
+		UUID queued = insertDue(userId, "Acme");
+		UUID other = insertDue(userId, "Globex");
+		jdbc.update("update interviews set interview_date = interview_date + interval '10 minutes' where id = ?", other);
+		jdbc.update("insert into reminder_outbox (id, interview_id, recipient, subject, body, status, attempts, "
+				+ "next_attempt_at, created_at, sent_at) values (gen_random_uuid(), ?, ?, 'earlier', 'earlier', "
+				+ "'SENT', 1, now(), now(), now())", queued, email);
+
+		ReflectionTestUtils.setField(reminderJob, "digest", true);
+		try {
+			transactionTemplate.execute(tx ->
+					ReflectionTestUtils.<List<UUID>>invokeMethod(reminderJob, "enqueue", List.of(queued, other), Instant.now()));
+		} finally {
+			ReflectionTestUtils.setField(reminderJob, "digest", false);
+		}
+
+		assertThat(unsent(queued, other)).isZero();
+		assertThat(jdbc.queryForObject("select subject from reminder_outbox where interview_id = ?", String.class, queued))
+				.isEqualTo("earlier");
+		assertThat(jdbc.queryForObject("select subject from reminder_outbox where interview_id = ?", String.class, other))
+				.isEqualTo("Interview Reminder: 2 upcoming interviews");
+	}
+
+	@Test
+	void instancesFiringTheSameReminderQueueItOnce() throws Exception {
+		String email = "reminder-" + UUID.randomUUID() + "@example.com";
+		register(email);
+		UUID userId = jdbc.queryForObject("select id from users where email = ?", UUID.class, email);
+		UUID id = insertDue(userId, "Acme");
+
+		// two dispatchers claiming the same candidate at once, each in its own transaction
+		List<Callable<List<UUID>>> dispatchers = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			dispatchers.add(() -> transactionTemplate.execute(tx ->
+					ReflectionTestUtils.<List<UUID>>invokeMethod(reminderJob, "enqueue", List.of(id), Instant.now())));
+		}
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		List<UUID> queued = new ArrayList<>();
+		try {
+			for (Future<List<UUID>> f : pool.invokeAll(dispatchers)) {
+				queued.addAll(f.get());
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		assertThat(queued).containsExactly(id);
+		assertThat(jdbc.queryForObject("select count(*) from reminder_outbox where interview_id = ?", Integer.class, id))
+				.isEqualTo(1);
+	}
+
+	@Test
+	void reminderClaimedElsewhereIsNotQueued() throws Exception {
+		String email = "reminder-" + UUID.randomUUID() + "@example.com";
+		register(email);
+		UUID userId = jdbc.queryForObject("select id from users where email = ?", UUID.class, email);
+		UUID id = insertDue(userId, "Acme");
+		jdbc.update("update interviews set reminder_sent_at = now() where id = ?", id);
+
+		List<UUID> queued = transactionTemplate.execute(tx ->
+				ReflectionTestUtils.<List<UUID>>invokeMethod(reminderJob, "enqueue", List.of(id), Instant.now()));
+
+		assertThat(queued).isEmpty();
+		assertThat(jdbc.queryForObject("select count(*) from reminder_outbox where interview_id = ?", Integer.class, id))
+				.isZero();
+	}
+
+	@Test
+	void digestClaimsTheUsersOtherRemindersDueInTheWindow() throws Exception {
+		String email = "reminder-" + UUID.randomUUID() + "@example.com";
+		register(email);
+		UUID userId = jdbc.queryForObject("select id from users where email = ?", UUID.class, email);
+		UUID first = insertDue(userId, "Acme");
+		UUID soon = insertDue(userId, "Globex");
+		jdbc.update("update interviews set interview_date = interview_date + interval '30 minutes', "
+				+ "reminder_due_at = now() + interval '30 minutes' where id = ?", soon);
+
+		ReflectionTestUtils.setField(reminderJob, "digest", true);
+		List<UUID> queued;
+		try {
+			queued = transactionTemplate.execute(tx ->
+					ReflectionTestUtils.<List<UUID>>invokeMethod(reminderJob, "enqueue", List.of(first), Instant.now()));
+		} finally {
+			ReflectionTestUtils.setField(reminderJob, "digest", false);
+		}
+
+		assertThat(queued).containsExactlyInAnyOrder(first, soon);
+		assertThat(unsent(first, soon)).isZero();
+		assertThat(jdbc.queryForObject("select subject from reminder_outbox where interview_id = ?", String.class, first))
+				.isEqualTo("Interview Reminder: 2 upcoming interviews");
+		assertThat(jdbc.queryForObject("select count(*) from reminder_outbox where interview_id = ?", Integer.class, soon))
+				.isZero();
+	}
+
+	@Test
+	void editSavedAfterTheReminderWentOutKeepsIt() throws Exception {
+		String auth = register();
+		UUID id = UUID.fromString(create(auth, "Acme", "Engineer", Instant.now().plus(30, ChronoUnit.DAYS))
+				.get("id").asText());
+
+		transactionTemplate.executeWithoutResult(tx -> {
+			Interview interview = interviewRepository.findById(id).orElseThrow();
+			assertThat(interview.getReminderSentAt()).isNull();
+
+			// the reminder job marks it, on its own connection, after the edit loaded the row
+			Thread job = new Thread(() -> jdbc.update("update interviews set reminder_sent_at = now() where id = ?", id));
+			job.start();
+			try {
+				job.join();
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+
+			interview.setRole("Staff Engineer");
+		});
+
+		assertThat(jdbc.queryForObject("select role from interviews where id = ?", String.class, id))
+				.isEqualTo("Staff Engineer");
+		assertThat(jdbc.queryForObject("select reminder_sent_at from interviews where id = ?", Timestamp.class, id))
+				.isNotNull();
+	}
+
+	// a row written behind the timer's back, due since yesterday for an interview in an hour
+	private UUID insertDue(UUID userId, String company) {
+		UUID id = UUID.randomUUID();
+		Instant date = Instant.now().plus(1, ChronoUnit.HOURS);
+		jdbc.update("insert into interviews (id, user_id, company, role, interview_date, status, notes, "
+						+ "reminder_offset_minutes, reminder_due_at, change_seq) "
+						+ "values (?, ?, ?, 'Engineer', ?, 'Scheduled', '', 1440, ?, 0)",
+				id, userId, company, Timestamp.from(date), Timestamp.from(date.minus(1, ChronoUnit.DAYS)));
+		return id;
+	}
+
+	private int unsent(UUID... ids) {
+		int n = 0;
+		for (UUID id : ids) {
+			n += jdbc.queryForObject("select count(*) from interviews where id = ? and reminder_sent_at is null",
+					Integer.class, id);
+		}
+		return n;
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.Interview_Tracker.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReminderOutboxLeaseTests {
+
+	@Test
+	void defaultsFitABatchInTheLease() {
+		// application.yml: claim-batch 20, lease 300s, SMTP timeouts 3s + 5s + 5s
+		assertThatCode(() -> worker(20, 300_000, 3000, 5000, 5000).checkLease()).doesNotThrowAnyException();
+	}
+
+	@Test
+	void leaseShorterThanTheWorstBatchFailsStartup() {
+		assertThatThrownBy(() -> worker(20, 60_000, 3000, 5000, 5000).checkLease())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("260000 ms");
+	}
+
+	@Test
+	void unboundedTimeoutFailsStartup() {
+		assertThatThrownBy(() -> worker(20, 300_000, 3000, 0, 5000).checkLease())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("must be set");
+	}
+
+	private static ReminderOutboxWorker worker(int claimBatch, long leaseMs,
+											   long connectTimeoutMs, long readTimeoutMs, long writeTimeoutMs) {
+		ReminderOutboxWorker worker = new ReminderOutboxWorker(null, null, null);
+		ReflectionTestUtils.setField(worker, "claimBatch", claimBatch);
+		ReflectionTestUtils.setField(worker, "leaseMs", leaseMs);
+		ReflectionTestUtils.setField(worker, "connectTimeoutMs", connectTimeoutMs);
+		ReflectionTestUtils.setField(worker, "readTimeoutMs", readTimeoutMs);
+		ReflectionTestUtils.setField(worker, "writeTimeoutMs", writeTimeoutMs);
+		return worker;
+	}
+}
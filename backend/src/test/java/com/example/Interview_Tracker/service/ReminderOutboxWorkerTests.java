@@ -0,0 +1,260 @@
+package com.example.Interview_Tracker.service;
+
+import com.example.Interview_Tracker.model.ReminderOutbox;
+import com.example.Interview_Tracker.repo.ReminderOutboxClaims;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox workers against a real Postgres outbox: retries and giving up, and several
+ * workers, each with its own pool and connections like separate instances, draining one
+ * outbox. Needs a throwaway database; bench/reminder-claims-test.sh starts one and runs
+ * this class.
+ */
+@EnabledIfEnvironmentVariable(named = "REMINDER_TEST_DATABASE_URL", matches = ".+")
+class ReminderOutboxWorkerTests {
+
+	private static final int INSTANCES = 4;
+	private static final int ROWS = 2000;
+
+	private final List<HikariDataSource> dataSources = new ArrayList<>();
+	private final List<ThreadPoolTaskExecutor> executors = new ArrayList<>();
+	private JdbcTemplate jdbc;
+
+	@BeforeEach
+	void migrate() {
+		HikariDataSource ds = dataSource();
+		Flyway.configure().dataSource(ds).load().migrate();
+		jdbc = new JdbcTemplate(ds);
+		jdbc.update("delete from reminder_outbox");
+	}
+
+	@AfterEach
+	void close() {
+		executors.forEach(ThreadPoolTaskExecutor::shutdown);
+		dataSources.forEach(HikariDataSource::close);
+	}
+
+	@Test
+	void instancesShareTheOutboxAndSendEachRowOnce() throws Exception {
+		insertPending(ROWS);
+
+		Map<UUID, AtomicInteger> sends = new ConcurrentHashMap<>();
+		List<AtomicInteger> sentByInstance = new ArrayList<>();
+		List<ReminderOutboxWorker> workers = new ArrayList<>();
+		for (int i = 0; i < INSTANCES; i++) {
+			AtomicInteger sent = new AtomicInteger();
+			sentByInstance.add(sent);
+			workers.add(worker(new ReminderOutboxClaims(new JdbcTemplate(dataSource())), sends, sent));
+		}
+
+		// each instance polls on its own thread until nothing is left to send
+		long started = System.nanoTime();
+		ExecutorService pollers = Executors.newFixedThreadPool(INSTANCES);
+		for (ReminderOutboxWorker w : workers) {
+			pollers.submit(() -> {
+				while (pending() > 0) {
+					w.drain();
+					Thread.sleep(5);
+				}
+				return null;
+			});
+		}
+		pollers.shutdown();
+		assertThat(pollers.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+		long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+		assertThat(sends).hasSize(ROWS);
+		assertThat(sends.values()).allMatch(n -> n.get() == 1);
+		assertThat(jdbc.queryForObject("select count(*) from reminder_outbox where status = 'SENT'", Integer.class))
+				.isEqualTo(ROWS);
+		assertThat(sentByInstance).allMatch(n -> n.get() > 0);
+
+		System.out.printf("%d instances sent %d reminders in %d ms, per instance %s%n",
+				INSTANCES, ROWS, elapsedMs, sentByInstance);
+	}
+
+	@Test
+	void expiredLeaseMovesTheRowToAnotherInstance() {
+		insertPending(10);
+		ReminderOutboxClaims a = new ReminderOutboxClaims(jdbc);
+		ReminderOutboxClaims b = new ReminderOutboxClaims(jdbc);
+		Instant now = Instant.now();
+		Duration lease = Duration.ofMinutes(5);
+
+		List<UUID> claimedByA = a.claim("a", 100, now, lease).stream().map(ReminderOutbox::getId).toList();
+		assertThat(claimedByA).hasSize(10);
+		assertThat(b.claim("b", 100, now, lease)).isEmpty();
+
+		// "a" died mid-send; once its lease is over "b" takes the rows
+		Instant later = now.plus(lease).plusSeconds(1);
+		assertThat(b.claim("b", 100, later, lease)).hasSize(10);
+
+		UUID id = claimedByA.get(0);
+		assertThat(a.markSent(id, "a", later)).isFalse();
+		assertThat(b.markSent(id, "b", later)).isTrue();
+	}
+
+	@Test
+	void failedSendIsRetriedAfterItsBackoff() throws Exception {
+		insertPending(1);
+		AtomicInteger calls = new AtomicInteger();
+		ReminderOutboxWorker worker = worker(new ReminderOutboxClaims(jdbc), failing(calls, 1));
+
+		worker.drain();
+		awaitAttempts(1);
+		Map<String, Object> row = jdbc.queryForMap("select * from reminder_outbox");
+		assertThat(row.get("status")).isEqualTo("PENDING");
+		assertThat(row.get("last_error")).isEqualTo("mailbox unavailable");
+		assertThat(((Timestamp) row.get("next_attempt_at")).toInstant()).isAfter(Instant.now());
+		assertThat(row.get("claimed_by")).isNull();
+
+		// backing off: not claimable yet
+		assertThat(new ReminderOutboxClaims(jdbc).claim("probe", 10, Instant.now(), Duration.ofSeconds(1))).isEmpty();
+
+		makeDue();
+		worker.drain();
+		awaitAttempts(2);
+		row = jdbc.queryForMap("select * from reminder_outbox");
+		assertThat(row.get("status")).isEqualTo("SENT");
+		assertThat(row.get("last_error")).isNull();
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void givesUpAfterMaxAttemptsAndNeverClaimsTheRowAgain() throws Exception {
+		insertPending(1);
+		AtomicInteger calls = new AtomicInteger();
+		ReminderOutboxWorker worker = worker(new ReminderOutboxClaims(jdbc), failing(calls, Integer.MAX_VALUE));
+		ReflectionTestUtils.setField(worker, "maxAttempts", 3);
+
+		for (int attempt = 1; attempt <= 3; attempt++) {
+			makeDue();
+			worker.drain();
+			awaitAttempts(attempt);
+		}
+
+		assertThat(jdbc.queryForObject("select status from reminder_outbox", String.class)).isEqualTo("FAILED");
+		makeDue();
+		assertThat(new ReminderOutboxClaims(jdbc).claim("probe", 10, Instant.now(), Duration.ofSeconds(1))).isEmpty();
+		assertThat(calls).hasValue(3);
+	}
+
+	// fails every message of the first `failures` sessions, then delivers
+	private static EmailService failing(AtomicInteger calls, int failures) {
+		return new EmailService(null, new SimpleMeterRegistry()) {
+			@Override
+			public Map<Integer, Exception> sendAll(List<Outgoing> messages) {
+				if (calls.incrementAndGet() > failures) {
+					return Map.of();
+				}
+				Map<Integer, Exception> failed = new HashMap<>();
+				for (int i = 0; i < messages.size(); i++) {
+					failed.put(i, new IllegalStateException("mailbox unavailable"));
+				}
+				return failed;
+			}
+		};
+	}
+
+	private void makeDue() {
+		jdbc.update("update reminder_outbox set next_attempt_at = now() - interval '1 second'");
+	}
+
+	// delivery runs on the worker's pool; wait for it to record the outcome
+	private void awaitAttempts(int attempts) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (jdbc.queryForObject("select attempts from reminder_outbox", Integer.class) < attempts) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private ReminderOutboxWorker worker(ReminderOutboxClaims claims, Map<UUID, AtomicInteger> sends, AtomicInteger sent) {
+		EmailService email = new EmailService(null, new SimpleMeterRegistry()) {
+			@Override
+			public Map<Integer, Exception> sendAll(List<Outgoing> messages) {
+				try {
+					Thread.sleep(2); // an SMTP session, scaled down
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				for (Outgoing m : messages) {
+					sends.computeIfAbsent(UUID.fromString(m.subject()), k -> new AtomicInteger()).incrementAndGet();
+					sent.incrementAndGet();
+				}
+				return Map.of();
+			}
+		};
+		return worker(claims, email);
+	}
+
+	private ReminderOutboxWorker worker(ReminderOutboxClaims claims, EmailService email) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(2);
+		executor.setMaxPoolSize(2);
+		executor.setQueueCapacity(100);
+		executor.initialize();
+		executors.add(executor);
+
+		ReminderOutboxWorker worker = new ReminderOutboxWorker(claims, email, executor);
+		ReflectionTestUtils.setField(worker, "maxAttempts", 5);
+		ReflectionTestUtils.setField(worker, "baseBackoffMs", 1000L);
+		ReflectionTestUtils.setField(worker, "maxBackoffMs", 60_000L);
+		ReflectionTestUtils.setField(worker, "leaseMs", 60_000L);
+		ReflectionTestUtils.setField(worker, "claimBatch", 20);
+		ReflectionTestUtils.setField(worker, "sendBatch", 10);
+		return worker;
+	}
+
+	private void insertPending(int n) {
+		Timestamp now = Timestamp.from(Instant.now().minusSeconds(1));
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < n; i++) {
+			UUID interviewId = UUID.randomUUID();
+			// the subject carries the interview id so the fake mailer can count sends per row
+			rows.add(new Object[]{UUID.randomUUID(), interviewId, "user@example.com", interviewId.toString(), "body", now, now});
+		}
+		jdbc.batchUpdate("insert into reminder_outbox "
+				+ "(id, interview_id, recipient, subject, body, status, attempts, next_attempt_at, created_at) "
+				+ "values (?, ?, ?, ?, ?, 'PENDING', 0, ?, ?)", rows);
+	}
+
+	private int pending() {
+		return jdbc.queryForObject("select count(*) from reminder_outbox where status = 'PENDING'", Integer.class);
+	}
+
+	private HikariDataSource dataSource() {
+		HikariDataSource ds = new HikariDataSource();
+		ds.setJdbcUrl(System.getenv("REMINDER_TEST_DATABASE_URL"));
+		ds.setUsername(System.getenv().getOrDefault("REMINDER_TEST_DATABASE_USERNAME", "postgres"));
+		ds.setPassword(System.getenv().getOrDefault("REMINDER_TEST_DATABASE_PASSWORD", "postgres"));
+		ds.setMaximumPoolSize(4);
+		dataSources.add(ds);
+		return ds;
+	}
+}
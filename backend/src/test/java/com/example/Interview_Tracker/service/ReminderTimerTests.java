@@ -0,0 +1,40 @@
+package com.example.Interview_Tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReminderTimerTests {
+
+	private final ReminderTimer timer = new ReminderTimer(120);
+
+	@Test
+	void firesOnlyTheCurrentDueTimeOfEachInterview() throws Exception {
+		UUID moved = UUID.randomUUID();
+		UUID cancelled = UUID.randomUUID();
+		UUID due = UUID.randomUUID();
+		Instant past = Instant.now().minusSeconds(1);
+
+		timer.schedule(moved, past);
+		timer.schedule(moved, Instant.now().plus(Duration.ofHours(1)));
+		timer.schedule(cancelled, past);
+		timer.cancel(cancelled);
+		timer.schedule(due, past);
+
+		assertThat(timer.awaitDue()).containsExactly(due);
+		assertThat(timer.stats().get("scheduled")).isEqualTo(1L);
+	}
+
+	@Test
+	void leavesRemindersBeyondTheHorizonToReconciliation() {
+		UUID id = UUID.randomUUID();
+		timer.schedule(id, Instant.now().plus(Duration.ofMinutes(10)));
+		timer.schedule(id, Instant.now().plus(Duration.ofHours(3)));
+
+		assertThat(timer.stats().get("scheduled")).isZero();
+	}
+}
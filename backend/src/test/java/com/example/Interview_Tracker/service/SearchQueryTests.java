@@ -0,0 +1,38 @@
+package com.example.Interview_Tracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchQueryTests {
+
+	@Test
+	void everyWordMustMatchAndTheLastIsAPrefix() {
+		assertThat(InterviewService.toTsQuery("  Goog   soft ")).isEqualTo("goog & soft:*");
+		assertThat(InterviewService.toTsQuery("data* eng")).isEqualTo("data:* & eng:*");
+	}
+
+	@Test
+	void splitsWordsOnNonWordCharacters() {
+		assertThat(InterviewService.toTsQuery("e-commerce"))
+				.isEqualTo("('e-commerce':* | e & commerce:*)");
+		assertThat(InterviewService.toTsQuery("node.js dev"))
+				.isEqualTo("('node.js' | node & js) & dev:*");
+		assertThat(InterviewService.toTsQuery("o'brien")).isEqualTo("('obrien':* | o & brien:*)");
+	}
+
+	@Test
+	void dropsTsQuerySyntax() {
+		assertThat(InterviewService.toTsQuery("acme & !(x | y):*")).isEqualTo("acme & x & y:*");
+		assertThat(InterviewService.toTsQuery("'; drop table interviews; --"))
+				.isEqualTo("drop & table & interviews");
+		assertThat(InterviewService.toTsQuery("c++")).isEqualTo("c:*");
+	}
+
+	@Test
+	void nothingSearchableGivesAnEmptyQuery() {
+		assertThat(InterviewService.toTsQuery(null)).isEmpty();
+		assertThat(InterviewService.toTsQuery("   ")).isEmpty();
+		assertThat(InterviewService.toTsQuery("&|!*")).isEmpty();
+	}
+}
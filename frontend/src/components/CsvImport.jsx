@@ -82,14 +82,13 @@ export default function CsvImport({ onImported }) {
         (p.company || "").trim() || (p.role || "").trim() || (p.notes || "").trim()
     );
 
-    await api.post("/api/interviews/import", cleaned, {
+    // rows imported before are skipped, so re-importing the same file is safe
+    const res = await api.post("/api/interviews/import", cleaned, {
     headers: { Authorization: `Bearer ${getToken()}` },
     });
 
-    alert(`Imported ${cleaned.length} rows`);
-    if (onImported) onImported();
-
-    alert(`Imported ${cleaned.length} rows`);
+    const { inserted, updated, skipped } = res.data;
+    alert(`Imported ${inserted} new, ${updated} updated, ${skipped} already imported`);
 
     if (typeof onImported === "function") {
       await onImported();
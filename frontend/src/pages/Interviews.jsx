@@ -32,10 +32,47 @@ function toISOFromDatetimeLocal(value) {
   return new Date(value + ":00").toISOString();
 }
 
+const PAGE_SIZE = 50;
+
+// minutes before the interview the reminder email goes out
+const REMINDER_OPTIONS = [
+  { minutes: 15, label: "15 minutes before" },
+  { minutes: 60, label: "1 hour before" },
+  { minutes: 180, label: "3 hours before" },
+  { minutes: 1440, label: "1 day before" },
+  { minutes: 2880, label: "2 days before" },
+  { minutes: 10080, label: "1 week before" },
+];
+
+function ReminderSelect({ value, onChange }) {
+  // keep an offset set through the API selectable even if it isn't a preset
+  const options = REMINDER_OPTIONS.some((o) => o.minutes === value)
+    ? REMINDER_OPTIONS
+    : [...REMINDER_OPTIONS, { minutes: value, label: `${value} minutes before` }];
+  return (
+    <label className="field">
+      <span className="labelText">Reminder</span>
+      <select
+        className="input selectFix"
+        value={value}
+        onChange={(e) => onChange(Number(e.target.value))}
+      >
+        {options.map((o) => (
+          <option key={o.minutes} value={o.minutes}>
+            {o.label}
+          </option>
+        ))}
+      </select>
+    </label>
+  );
+}
+
 export default function Interviews() {
   const [items, setItems] = useState([]);
   const [error, setError] = useState("");
   const [loading, setLoading] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   // ✅ view toggle
   const [viewMode, setViewMode] = useState("list"); // "list" | "calendar"
@@ -46,6 +83,7 @@ export default function Interviews() {
   const [interviewDate, setInterviewDate] = useState("");
   const [status, setStatus] = useState("Scheduled");
   const [notes, setNotes] = useState("");
+  const [reminderOffset, setReminderOffset] = useState(1440);
 
   // Edit modal state
   const [isEditOpen, setIsEditOpen] = useState(false);
@@ -55,6 +93,7 @@ export default function Interviews() {
   const [editInterviewDate, setEditInterviewDate] = useState("");
   const [editStatus, setEditStatus] = useState("Scheduled");
   const [editNotes, setEditNotes] = useState("");
+  const [editReminderOffset, setEditReminderOffset] = useState(1440);
   const [savingEdit, setSavingEdit] = useState(false);
   const [isImportOpen, setIsImportOpen] = useState(true);
 
@@ -66,12 +105,24 @@ export default function Interviews() {
     setIsImportOpen((v) => !v);
   }
 
+  // list is keyset-paginated; load() fetches the first page, loadMore() the next one
+  async function fetchPage(cursor) {
+    const res = await api.get("/api/interviews", {
+      params: { limit: PAGE_SIZE, ...(cursor ? { cursor } : {}) },
+    });
+    return {
+      rows: Array.isArray(res.data) ? res.data : res.data?.items || [],
+      next: res.data?.nextCursor || null,
+    };
+  }
+
   async function load() {
     setError("");
     setLoading(true);
     try {
-      const res = await api.get("/api/interviews");
-      setItems(Array.isArray(res.data) ? res.data : res.data?.items || []);
+      const page = await fetchPage(null);
+      setItems(page.rows);
+      setNextCursor(page.next);
     } catch (err) {
       setError(
         err?.response?.data?.message ||
@@ -84,6 +135,26 @@ export default function Interviews() {
     }
   }
 
+  async function loadMore() {
+    if (!nextCursor) return;
+    setError("");
+    setLoadingMore(true);
+    try {
+      const page = await fetchPage(nextCursor);
+      setItems((prev) => [...prev, ...page.rows]);
+      setNextCursor(page.next);
+    } catch (err) {
+      setError(
+        err?.response?.data?.message ||
+          err?.response?.data ||
+          err.message ||
+          "Failed to load interviews"
+      );
+    } finally {
+      setLoadingMore(false);
+    }
+  }
+
   useEffect(() => {
     load();
     // eslint-disable-next-line react-hooks/exhaustive-deps
@@ -100,6 +171,7 @@ export default function Interviews() {
         interviewDate: toISOFromDatetimeLocal(interviewDate),
         status,
         notes,
+        reminderOffsetMinutes: reminderOffset,
       };
 
       await api.post("/api/interviews", payload);
@@ -125,6 +197,7 @@ export default function Interviews() {
     setEditInterviewDate(toDatetimeLocalValue(it.interviewDate));
     setEditStatus(it.status || "Scheduled");
     setEditNotes(it.notes || "");
+    setEditReminderOffset(it.reminderOffsetMinutes ?? 1440);
     setIsEditOpen(true);
   }
 
@@ -136,6 +209,7 @@ export default function Interviews() {
     setEditInterviewDate("");
     setEditStatus("Scheduled");
     setEditNotes("");
+    setEditReminderOffset(1440);
     setSavingEdit(false);
   }
 
@@ -151,6 +225,7 @@ export default function Interviews() {
         interviewDate: toISOFromDatetimeLocal(editInterviewDate),
         status: editStatus,
         notes: editNotes,
+        reminderOffsetMinutes: editReminderOffset,
       };
 
       await api.put(`/api/interviews/${editingId}`, payload);
@@ -429,6 +504,8 @@ export default function Interviews() {
               />
             </label>
 
+            <ReminderSelect value={reminderOffset} onChange={setReminderOffset} />
+
             <div className="actionsRow">
               <button className="btn btnPrimary" type="submit">
                 Add Interview
@@ -445,7 +522,9 @@ export default function Interviews() {
           <div className="panelHeader">
             <div style={{ fontWeight: 800 }}>Your saved interviews</div>
             <div className="muted" style={{ fontSize: 12 }}>
-              {loading ? "Loading…" : `${sortedItems.length} total`}
+              {loading
+                ? "Loading…"
+                : `${sortedItems.length}${nextCursor ? "+" : ""} ${nextCursor ? "loaded" : "total"}`}
             </div>
           </div>
 
@@ -487,6 +566,14 @@ export default function Interviews() {
               </div>
             ))}
           </div>
+
+          {nextCursor && (
+            <div style={{ display: "flex", justifyContent: "center", marginTop: 16 }}>
+              <button className="btn btnOutline" onClick={loadMore} disabled={loadingMore}>
+                {loadingMore ? "Loading…" : "Load more"}
+              </button>
+            </div>
+          )}
         </div>
       )}
 
@@ -568,6 +655,8 @@ export default function Interviews() {
                   onChange={(e) => setEditNotes(e.target.value)}
                 />
               </label>
+
+              <ReminderSelect value={editReminderOffset} onChange={setEditReminderOffset} />
             </div>
 
             <div className="modalFooter">